@@ -0,0 +1,19 @@
+package com.jobportal.cache;
+
+import com.jobportal.model.Job;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of the job fields checked when a candidate applies
+ * (title, recruiter and active flag), keyed by job id. Inactive jobs are
+ * cached too, so repeated applications to a closed job stay cheap.
+ */
+@Component
+public class ActiveJobCache extends TtlCache<Job> {
+
+    public ActiveJobCache(@Value("${jobportal.cache.active-jobs.ttl-ms:60000}") long ttlMs,
+                          @Value("${jobportal.cache.active-jobs.max-entries:10000}") int maxEntries) {
+        super(ttlMs, maxEntries);
+    }
+}
@@ -0,0 +1,41 @@
+package com.jobportal.cache;
+
+import com.jobportal.model.enums.SkillMatch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Short-lived cache of job filter totals, keyed by the normalized filter.
+ * A cached total is reported as an estimate.
+ */
+@Component
+public class FilterCountCache extends TtlCache<Long> {
+
+    public FilterCountCache(@Value("${jobportal.cache.filter-count.ttl-ms:30000}") long ttlMs,
+                            @Value("${jobportal.cache.filter-count.max-entries:10000}") int maxEntries) {
+        super(ttlMs, maxEntries);
+    }
+
+    public static String key(String title, String location, List<Integer> skillIds, SkillMatch skillMatch,
+                             Integer experienceRequired) {
+        StringBuilder key = new StringBuilder();
+        // Title and location match case-insensitively on the trimmed value, so fold both
+        key.append("t=").append(normalize(title));
+        key.append("|l=").append(normalize(location));
+        // Skill matching is order-insensitive, so sort and de-duplicate the ids
+        key.append("|s=");
+        if (skillIds != null && !skillIds.isEmpty()) {
+            key.append(skillMatch).append(new TreeSet<>(skillIds));
+        }
+        key.append("|e=").append(experienceRequired == null ? "" : experienceRequired);
+        return key.toString();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
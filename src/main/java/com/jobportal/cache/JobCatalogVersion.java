@@ -0,0 +1,24 @@
+package com.jobportal.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global version of the job catalog, bumped on every job create, update and delete.
+ * Caches that embed the version in their keys never serve a page built
+ * before the latest write.
+ */
+@Component
+public class JobCatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    public long bump() {
+        return version.incrementAndGet();
+    }
+}
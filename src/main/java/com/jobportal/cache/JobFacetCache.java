@@ -0,0 +1,18 @@
+package com.jobportal.cache;
+
+import com.jobportal.dto.response.JobFacetsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of faceted filter pages, keyed by the normalized filter
+ * plus page and size.
+ */
+@Component
+public class JobFacetCache extends TtlCache<JobFacetsResponse> {
+
+    public JobFacetCache(@Value("${jobportal.cache.facets.ttl-ms:30000}") long ttlMs,
+                         @Value("${jobportal.cache.facets.max-entries:5000}") int maxEntries) {
+        super(ttlMs, maxEntries);
+    }
+}
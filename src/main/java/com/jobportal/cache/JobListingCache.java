@@ -0,0 +1,83 @@
+package com.jobportal.cache;
+
+import com.jobportal.dto.response.JobSummaryResponse;
+import com.jobportal.dto.response.PageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of fully built public job listing pages.
+ *
+ * Design Decisions:
+ * - Keys embed the catalog version, so a write makes every older page unreachable
+ *   and a page computed concurrently with a write is never served afterwards
+ * - Stale versions are also dropped eagerly when the catalog version moves
+ * - Hit/miss counters and the entry count are published as Micrometer metrics
+ */
+@Component
+public class JobListingCache {
+
+    private final JobCatalogVersion catalogVersion;
+    private final Map<String, PageResponse<JobSummaryResponse>> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile long cachedVersion;
+
+    public JobListingCache(JobCatalogVersion catalogVersion, MeterRegistry meterRegistry,
+                           @Value("${jobportal.cache.job-listing.max-entries:1000}") int maxEntries) {
+        this.catalogVersion = catalogVersion;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PageResponse<JobSummaryResponse>> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.hits = Counter.builder("jobportal.cache.job_listing")
+            .tag("result", "hit")
+            .description("Public job listing page cache lookups")
+            .register(meterRegistry);
+        this.misses = Counter.builder("jobportal.cache.job_listing")
+            .tag("result", "miss")
+            .description("Public job listing page cache lookups")
+            .register(meterRegistry);
+        meterRegistry.gauge("jobportal.cache.job_listing.size", entries, Map::size);
+    }
+
+    public static String key(long version, int page, int size, String sortBy, String sortDir) {
+        return version + "|" + page + "|" + size + "|" + sortBy + "|" + sortDir.toLowerCase();
+    }
+
+    /**
+     * Key for the given page at the current catalog version; capture it before
+     * building the page so a concurrent write invalidates the result.
+     */
+    public String currentKey(int page, int size, String sortBy, String sortDir) {
+        long version = catalogVersion.current();
+        if (version != cachedVersion) {
+            cachedVersion = version;
+            entries.clear();
+        }
+        return key(version, page, size, sortBy, sortDir);
+    }
+
+    public PageResponse<JobSummaryResponse> get(String key) {
+        PageResponse<JobSummaryResponse> page = entries.get(key);
+        if (page != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return page;
+    }
+
+    public void put(String key, PageResponse<JobSummaryResponse> page) {
+        entries.put(key, page);
+    }
+}
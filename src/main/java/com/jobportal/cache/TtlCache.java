@@ -0,0 +1,80 @@
+package com.jobportal.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, short-lived cache of query results that are invalidated wholesale
+ * on writes.
+ *
+ * Design Decisions:
+ * - Entries expire after a short TTL, so a hit may be slightly stale
+ * - Any write bumps a generation counter and drops every entry; a value that
+ *   was computed before the bump is never stored
+ * - Bounded: expired entries are purged when full, and the map is cleared if
+ *   it is still over the limit
+ */
+public class TtlCache<V> {
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlMs;
+    private final int maxEntries;
+
+    public TtlCache(long ttlMs, int maxEntries) {
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached value, or null when absent or expired.
+     */
+    public V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Stores a value that was computed while {@code observedGeneration} was current.
+     */
+    public void put(String key, V value, long observedGeneration) {
+        if (observedGeneration != generation.get()) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.expiresAt < now);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMs));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
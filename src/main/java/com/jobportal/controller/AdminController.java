@@ -1,14 +1,20 @@
 package com.jobportal.controller;
 
+import com.jobportal.dto.request.UserNameUpdateRequest;
 import com.jobportal.dto.response.ApiResponse;
 import com.jobportal.dto.response.PageResponse;
+import com.jobportal.dto.response.ThrottleKeyResponse;
 import com.jobportal.dto.response.UserResponse;
+import com.jobportal.security.LoginThrottle;
 import com.jobportal.service.UserService;
+import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/admin")
 public class AdminController {
@@ -16,9 +22,11 @@ public class AdminController {
     private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
     
     private final UserService userService;
+    private final LoginThrottle loginThrottle;
 
-    public AdminController(UserService userService) {
+    public AdminController(UserService userService, LoginThrottle loginThrottle) {
         this.userService = userService;
+        this.loginThrottle = loginThrottle;
     }
 
     @GetMapping("/users")
@@ -26,9 +34,12 @@ public class AdminController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String cursor) {
         logger.debug("Admin fetching all users");
-        PageResponse<UserResponse> users = userService.getAllUsers(page, size, sortBy, sortDir);
+        PageResponse<UserResponse> users = cursor != null
+            ? userService.getUsersAfter(cursor, size, sortBy, sortDir)
+            : userService.getAllUsers(page, size, sortBy, sortDir);
         return ResponseEntity.ok(ApiResponse.success(users));
     }
 
@@ -39,6 +50,15 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponse.success(user));
     }
 
+    @PutMapping("/users/{id}/name")
+    public ResponseEntity<ApiResponse<UserResponse>> updateUserName(
+            @PathVariable String id,
+            @Valid @RequestBody UserNameUpdateRequest request) {
+        logger.info("Admin updating name of user: {}", id);
+        UserResponse user = userService.updateName(id, request);
+        return ResponseEntity.ok(ApiResponse.success("User name updated successfully", user));
+    }
+
     @PutMapping("/users/{id}/deactivate")
     public ResponseEntity<ApiResponse<Object>> deactivateUser(@PathVariable String id) {
         logger.info("Admin deactivating user: {}", id);
@@ -52,5 +72,12 @@ public class AdminController {
         userService.activateUser(id);
         return ResponseEntity.ok(ApiResponse.success("User activated successfully", null));
     }
-}
 
+    @GetMapping("/login-throttle/hot-keys")
+    public ResponseEntity<ApiResponse<List<ThrottleKeyResponse>>> getLoginThrottleHotKeys(
+            @RequestParam(defaultValue = "20") int limit) {
+        logger.debug("Admin fetching login throttle hot keys");
+        List<ThrottleKeyResponse> keys = loginThrottle.hotKeys(Math.max(1, Math.min(limit, 500)));
+        return ResponseEntity.ok(ApiResponse.success(keys));
+    }
+}
@@ -2,17 +2,26 @@ package com.jobportal.controller;
 
 import com.jobportal.dto.request.ApplicationRequest;
 import com.jobportal.dto.request.ApplicationStatusUpdateRequest;
+import com.jobportal.dto.request.BulkApplicationStatusUpdateRequest;
 import com.jobportal.dto.response.ApiResponse;
 import com.jobportal.dto.response.ApplicationResponse;
+import com.jobportal.dto.response.ApplicationSummaryResponse;
+import com.jobportal.dto.response.BulkUpdateResponse;
 import com.jobportal.dto.response.PageResponse;
 import com.jobportal.model.enums.ApplicationStatus;
-import com.jobportal.security.JwtTokenProvider;
+import com.jobportal.model.enums.Role;
+import com.jobportal.security.CurrentUser;
+import com.jobportal.security.JwtPrincipal;
 import com.jobportal.service.ApplicationService;
-import jakarta.servlet.http.HttpServletRequest;
+import com.jobportal.storage.ResumeResource;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,22 +32,21 @@ public class ApplicationController {
     private static final Logger logger = LoggerFactory.getLogger(ApplicationController.class);
     
     private final ApplicationService applicationService;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final CurrentUser currentUser;
 
     public ApplicationController(ApplicationService applicationService, 
-                                JwtTokenProvider jwtTokenProvider) {
+                                CurrentUser currentUser) {
         this.applicationService = applicationService;
-        this.jwtTokenProvider = jwtTokenProvider;
+        this.currentUser = currentUser;
     }
 
     @PostMapping
     public ResponseEntity<ApiResponse<ApplicationResponse>> applyForJob(
             @Valid @RequestBody ApplicationRequest request,
-            HttpServletRequest httpRequest) {
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         logger.info("Application request for job: {}", request.getJobId());
-        String token = extractToken(httpRequest);
-        String candidateId = jwtTokenProvider.getUserIdFromToken(token);
-        ApplicationResponse application = applicationService.applyForJob(request, candidateId);
+        String candidateId = currentUser.getUserId();
+        ApplicationResponse application = applicationService.applyForJob(request, candidateId, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(ApiResponse.success("Application submitted successfully", application));
     }
@@ -50,38 +58,56 @@ public class ApplicationController {
         return ResponseEntity.ok(ApiResponse.success(application));
     }
 
+    /**
+     * Streams the resume; Range requests are answered with 206 partial content.
+     */
+    @GetMapping("/{id}/resume")
+    public ResponseEntity<Resource> downloadResume(@PathVariable String id) {
+        logger.debug("Downloading resume of application: {}", id);
+        String userId = currentUser.getUserId();
+        ResumeResource resume = applicationService.getResume(id, userId);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(resume.getContentType()))
+            .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+            .header(HttpHeaders.CONTENT_DISPOSITION, 
+                    ContentDisposition.inline().filename(resume.getFilename()).build().toString())
+            .body(resume);
+    }
+
     @GetMapping("/my-applications")
-    public ResponseEntity<ApiResponse<PageResponse<ApplicationResponse>>> getMyApplications(
+    public ResponseEntity<ApiResponse<PageResponse<ApplicationSummaryResponse>>> getMyApplications(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            HttpServletRequest httpRequest) {
+            @RequestParam(required = false) String cursor) {
         logger.debug("Fetching applications for candidate");
-        String token = extractToken(httpRequest);
-        String candidateId = jwtTokenProvider.getUserIdFromToken(token);
-        PageResponse<ApplicationResponse> applications = 
-            applicationService.getApplicationsByCandidate(candidateId, page, size);
+        String candidateId = currentUser.getUserId();
+        PageResponse<ApplicationSummaryResponse> applications = cursor != null
+            ? applicationService.getApplicationsByCandidateAfter(candidateId, cursor, size)
+            : applicationService.getApplicationsByCandidate(candidateId, page, size);
         return ResponseEntity.ok(ApiResponse.success(applications));
     }
 
     @GetMapping("/job/{jobId}")
-    public ResponseEntity<ApiResponse<PageResponse<ApplicationResponse>>> getApplicationsByJob(
+    public ResponseEntity<ApiResponse<PageResponse<ApplicationSummaryResponse>>> getApplicationsByJob(
             @PathVariable String jobId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
         logger.debug("Fetching applications for job: {}", jobId);
-        PageResponse<ApplicationResponse> applications = 
-            applicationService.getApplicationsByJob(jobId, page, size);
+        PageResponse<ApplicationSummaryResponse> applications = cursor != null
+            ? applicationService.getApplicationsByJobAfter(jobId, cursor, size)
+            : applicationService.getApplicationsByJob(jobId, page, size);
         return ResponseEntity.ok(ApiResponse.success(applications));
     }
 
     @GetMapping("/job/{jobId}/status/{status}")
-    public ResponseEntity<ApiResponse<PageResponse<ApplicationResponse>>> getApplicationsByJobAndStatus(
+    public ResponseEntity<ApiResponse<PageResponse<ApplicationSummaryResponse>>> getApplicationsByJobAndStatus(
             @PathVariable String jobId,
             @PathVariable ApplicationStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         logger.debug("Fetching applications for job: {} with status: {}", jobId, status);
-        PageResponse<ApplicationResponse> applications = 
+        PageResponse<ApplicationSummaryResponse> applications = 
             applicationService.getApplicationsByJobAndStatus(jobId, status, page, size);
         return ResponseEntity.ok(ApiResponse.success(applications));
     }
@@ -89,22 +115,27 @@ public class ApplicationController {
     @PutMapping("/{id}/status")
     public ResponseEntity<ApiResponse<ApplicationResponse>> updateApplicationStatus(
             @PathVariable String id,
-            @Valid @RequestBody ApplicationStatusUpdateRequest request,
-            HttpServletRequest httpRequest) {
+            @Valid @RequestBody ApplicationStatusUpdateRequest request) {
         logger.info("Updating application status: {}", id);
-        String token = extractToken(httpRequest);
-        String userId = jwtTokenProvider.getUserIdFromToken(token);
+        JwtPrincipal principal = currentUser.getPrincipal();
+        String userId = principal.getUserId();
+        Role role = principal.getRole();
         ApplicationResponse application = 
-            applicationService.updateApplicationStatus(id, request, userId);
+            applicationService.updateApplicationStatus(id, request, userId, role);
         return ResponseEntity.ok(ApiResponse.success("Application status updated successfully", application));
     }
 
-    private String extractToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
+    @PutMapping("/job/{jobId}/status")
+    public ResponseEntity<ApiResponse<BulkUpdateResponse>> bulkUpdateApplicationStatus(
+            @PathVariable String jobId,
+            @Valid @RequestBody BulkApplicationStatusUpdateRequest request) {
+        logger.info("Bulk updating application status for job: {}", jobId);
+        JwtPrincipal principal = currentUser.getPrincipal();
+        String userId = principal.getUserId();
+        Role role = principal.getRole();
+        BulkUpdateResponse result = 
+            applicationService.bulkUpdateApplicationStatus(jobId, request, userId, role);
+        return ResponseEntity.ok(ApiResponse.success("Application statuses updated successfully", result));
     }
 }
 
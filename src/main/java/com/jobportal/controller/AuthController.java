@@ -4,14 +4,21 @@ import com.jobportal.dto.request.LoginRequest;
 import com.jobportal.dto.request.RegisterRequest;
 import com.jobportal.dto.response.ApiResponse;
 import com.jobportal.dto.response.AuthResponse;
+import com.jobportal.security.JwtKeyring;
+import com.jobportal.security.LoginThrottle;
 import com.jobportal.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequestMapping("/api/v1/auth")
 public class AuthController {
@@ -19,24 +26,44 @@ public class AuthController {
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
     
     private final AuthService authService;
+    private final JwtKeyring jwtKeyring;
+    private final LoginThrottle loginThrottle;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, JwtKeyring jwtKeyring, LoginThrottle loginThrottle) {
         this.authService = authService;
+        this.jwtKeyring = jwtKeyring;
+        this.loginThrottle = loginThrottle;
     }
 
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse<AuthResponse>> register(@Valid @RequestBody RegisterRequest request) {
+    public ResponseEntity<ApiResponse<AuthResponse>> register(@Valid @RequestBody RegisterRequest request,
+                                                              HttpServletRequest httpRequest) {
         logger.info("Registration request received for email: {}", request.getEmail());
+        // Rejected before the password is hashed, so sign-up floods can't starve logins
+        loginThrottle.acquireByIp(httpRequest);
         AuthResponse response = authService.register(request);
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(ApiResponse.success("User registered successfully", response));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                           HttpServletRequest httpRequest) {
         logger.info("Login request received for: {}", request.getUsernameOrEmail());
+        // Rejected before any user lookup or password hashing
+        loginThrottle.acquire(request.getUsernameOrEmail(), httpRequest);
         AuthResponse response = authService.login(request);
         return ResponseEntity.ok(ApiResponse.success("Login successful", response));
     }
-}
 
+    /**
+     * Public JWT verification keys as a JWK Set, for services verifying tokens offline.
+     */
+    @GetMapping("/jwks.json")
+    public ResponseEntity<String> getJwks() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+            .body(jwtKeyring.jwks());
+    }
+}
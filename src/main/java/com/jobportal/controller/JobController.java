@@ -2,19 +2,30 @@ package com.jobportal.controller;
 
 import com.jobportal.dto.request.JobCreateRequest;
 import com.jobportal.dto.response.ApiResponse;
+import com.jobportal.dto.response.JobFacetsResponse;
 import com.jobportal.dto.response.JobResponse;
+import com.jobportal.dto.response.JobSummaryResponse;
 import com.jobportal.dto.response.PageResponse;
+import com.jobportal.dto.response.SuggestionResponse;
+import com.jobportal.model.User;
+import com.jobportal.model.enums.SkillMatch;
+import com.jobportal.model.enums.SuggestionType;
 import com.jobportal.security.CurrentUser;
-import com.jobportal.security.JwtTokenProvider;
+import com.jobportal.service.JobImportService;
 import com.jobportal.service.JobService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -23,22 +34,30 @@ public class JobController {
     
     private static final Logger logger = LoggerFactory.getLogger(JobController.class);
     
+    private static final String NDJSON = "application/x-ndjson";
+    
     private final JobService jobService;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JobImportService jobImportService;
+    private final CurrentUser currentUser;
 
-    public JobController(JobService jobService, JwtTokenProvider jwtTokenProvider) {
+    public JobController(JobService jobService, JobImportService jobImportService, 
+                        CurrentUser currentUser) {
         this.jobService = jobService;
-        this.jwtTokenProvider = jwtTokenProvider;
+        this.jobImportService = jobImportService;
+        this.currentUser = currentUser;
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<PageResponse<JobResponse>>> getAllJobs(
+    public ResponseEntity<ApiResponse<PageResponse<JobSummaryResponse>>> getAllJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String cursor) {
         logger.debug("Fetching all jobs - page: {}, size: {}", page, size);
-        PageResponse<JobResponse> jobs = jobService.getAllActiveJobs(page, size, sortBy, sortDir);
+        PageResponse<JobSummaryResponse> jobs = cursor != null
+            ? jobService.getActiveJobsAfter(cursor, size, sortBy, sortDir)
+            : jobService.getAllActiveJobs(page, size, sortBy, sortDir);
         return ResponseEntity.ok(ApiResponse.success(jobs));
     }
 
@@ -50,82 +69,119 @@ public class JobController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<PageResponse<JobResponse>>> searchJobs(
+    public ResponseEntity<ApiResponse<PageResponse<JobSummaryResponse>>> searchJobs(
             @RequestParam String q,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        logger.debug("Searching jobs with query: {}", q);
-        PageResponse<JobResponse> jobs = jobService.searchJobs(q, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy) {
+        logger.debug("Searching jobs with query: {}, sortBy: {}", q, sortBy);
+        PageResponse<JobSummaryResponse> jobs = sortBy.equalsIgnoreCase("relevance")
+            ? jobService.searchJobsByRelevance(q, page, size)
+            : jobService.searchJobs(q, page, size);
         return ResponseEntity.ok(ApiResponse.success(jobs));
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) SuggestionType type,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SuggestionResponse> suggestions = jobService.suggest(q, type, limit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
+
     @GetMapping("/filter")
-    public ResponseEntity<ApiResponse<PageResponse<JobResponse>>> filterJobs(
+    public ResponseEntity<ApiResponse<PageResponse<JobSummaryResponse>>> filterJobs(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) List<String> skills,
+            @RequestParam(defaultValue = "ANY") SkillMatch skillMatch,
             @RequestParam(required = false) Integer experienceRequired,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "EXACT") PageResponse.TotalType total,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng) {
         logger.debug("Filtering jobs");
-        PageResponse<JobResponse> jobs = jobService.filterJobs(title, location, skills, 
-                                                               experienceRequired, page, size);
+        PageResponse<JobSummaryResponse> jobs = radiusKm != null
+            ? jobService.filterJobsNear(title, location, lat, lng, radiusKm, skills, skillMatch, 
+                                        experienceRequired, page, size)
+            : jobService.filterJobs(title, location, skills, skillMatch, 
+                                    experienceRequired, page, size, total);
         return ResponseEntity.ok(ApiResponse.success(jobs));
     }
 
+    @GetMapping("/filter/facets")
+    public ResponseEntity<ApiResponse<JobFacetsResponse>> filterJobsWithFacets(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(defaultValue = "ANY") SkillMatch skillMatch,
+            @RequestParam(required = false) Integer experienceRequired,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        logger.debug("Filtering jobs with facets");
+        JobFacetsResponse facets = jobService.filterJobsWithFacets(title, location, skills, skillMatch, 
+                                                                  experienceRequired, page, size);
+        return ResponseEntity.ok(ApiResponse.success(facets));
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<JobResponse>> createJob(
-            @Valid @RequestBody JobCreateRequest request,
-            HttpServletRequest httpRequest) {
+            @Valid @RequestBody JobCreateRequest request) {
         logger.info("Creating new job: {}", request.getTitle());
-        String token = extractToken(httpRequest);
-        String userId = jwtTokenProvider.getUserIdFromToken(token);
+        String userId = currentUser.getUserId();
         JobResponse job = jobService.createJob(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(ApiResponse.success("Job created successfully", job));
     }
 
+    /**
+     * Bulk-imports NDJSON job postings and streams back one NDJSON result per line.
+     */
+    @PostMapping(value = "/import", consumes = NDJSON, produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> importJobs(HttpServletRequest httpRequest) {
+        logger.info("Bulk importing jobs");
+        String userId = currentUser.getUserId();
+        // Authorize before the response is committed so failures still map to error responses
+        User recruiter = jobService.getPostingUser(userId);
+        StreamingResponseBody results = output -> jobImportService.importJobs(
+            new InputStreamReader(httpRequest.getInputStream(), StandardCharsets.UTF_8),
+            new OutputStreamWriter(output, StandardCharsets.UTF_8),
+            recruiter);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON))
+            .body(results);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<JobResponse>> updateJob(
             @PathVariable String id,
-            @Valid @RequestBody JobCreateRequest request,
-            HttpServletRequest httpRequest) {
+            @Valid @RequestBody JobCreateRequest request) {
         logger.info("Updating job: {}", id);
-        String token = extractToken(httpRequest);
-        String userId = jwtTokenProvider.getUserIdFromToken(token);
+        String userId = currentUser.getUserId();
         JobResponse job = jobService.updateJob(id, request, userId);
         return ResponseEntity.ok(ApiResponse.success("Job updated successfully", job));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Object>> deleteJob(
-            @PathVariable String id,
-            HttpServletRequest httpRequest) {
+            @PathVariable String id) {
         logger.info("Deleting job: {}", id);
-        String token = extractToken(httpRequest);
-        String userId = jwtTokenProvider.getUserIdFromToken(token);
+        String userId = currentUser.getUserId();
         jobService.deleteJob(id, userId);
         return ResponseEntity.ok(ApiResponse.success("Job deleted successfully", null));
     }
 
     @GetMapping("/recruiter/my-jobs")
-    public ResponseEntity<ApiResponse<PageResponse<JobResponse>>> getMyJobs(
+    public ResponseEntity<ApiResponse<PageResponse<JobSummaryResponse>>> getMyJobs(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
-            HttpServletRequest httpRequest) {
+            @RequestParam(defaultValue = "10") int size) {
         logger.debug("Fetching jobs by recruiter");
-        String token = extractToken(httpRequest);
-        String userId = jwtTokenProvider.getUserIdFromToken(token);
-        PageResponse<JobResponse> jobs = jobService.getJobsByRecruiter(userId, page, size);
+        String userId = currentUser.getUserId();
+        PageResponse<JobSummaryResponse> jobs = jobService.getJobsByRecruiter(userId, page, size);
         return ResponseEntity.ok(ApiResponse.success(jobs));
     }
-
-    private String extractToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
 }
 
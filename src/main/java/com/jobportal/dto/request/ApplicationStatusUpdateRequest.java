@@ -9,6 +9,10 @@ public class ApplicationStatusUpdateRequest {
     private ApplicationStatus status;
     
     private String notes;
+    
+    private ApplicationStatus expectedStatus; // Optional: only transition from this status
+    
+    private Long version; // Optional: only transition if the application is still at this version
 
     // Constructors
     public ApplicationStatusUpdateRequest() {
@@ -30,5 +34,21 @@ public class ApplicationStatusUpdateRequest {
     public void setNotes(String notes) {
         this.notes = notes;
     }
+
+    public ApplicationStatus getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public void setExpectedStatus(ApplicationStatus expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
 
@@ -0,0 +1,72 @@
+package com.jobportal.dto.request;
+
+import com.jobportal.model.enums.ApplicationStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves many applications of one job to a status. Targets either the listed
+ * application ids or every application matching the filter
+ * (fromStatus and/or appliedBefore).
+ */
+public class BulkApplicationStatusUpdateRequest {
+    
+    @NotNull(message = "Status is required")
+    private ApplicationStatus status;
+    
+    private String notes;
+    
+    @Size(max = 1000, message = "At most 1000 application ids per request")
+    private List<String> applicationIds;
+    
+    private ApplicationStatus fromStatus;
+    
+    private LocalDateTime appliedBefore;
+
+    // Constructors
+    public BulkApplicationStatusUpdateRequest() {
+    }
+
+    // Getters and Setters
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ApplicationStatus status) {
+        this.status = status;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public List<String> getApplicationIds() {
+        return applicationIds;
+    }
+
+    public void setApplicationIds(List<String> applicationIds) {
+        this.applicationIds = applicationIds;
+    }
+
+    public ApplicationStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(ApplicationStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public LocalDateTime getAppliedBefore() {
+        return appliedBefore;
+    }
+
+    public void setAppliedBefore(LocalDateTime appliedBefore) {
+        this.appliedBefore = appliedBefore;
+    }
+}
@@ -0,0 +1,33 @@
+package com.jobportal.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class UserNameUpdateRequest {
+    
+    @NotBlank(message = "First name is required")
+    private String firstName;
+    
+    @NotBlank(message = "Last name is required")
+    private String lastName;
+
+    // Constructors
+    public UserNameUpdateRequest() {
+    }
+
+    // Getters and Setters
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+}
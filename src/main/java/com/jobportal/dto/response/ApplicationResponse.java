@@ -12,10 +12,12 @@ public class ApplicationResponse {
     private String jobTitle;
     private ApplicationStatus status;
     private String resume;
+    private String resumeFileId;
     private String coverLetter;
     private LocalDateTime appliedAt;
     private LocalDateTime reviewedAt;
     private String notes;
+    private Long version;
 
     // Constructors
     public ApplicationResponse() {
@@ -78,6 +80,14 @@ public class ApplicationResponse {
         this.resume = resume;
     }
 
+    public String getResumeFileId() {
+        return resumeFileId;
+    }
+
+    public void setResumeFileId(String resumeFileId) {
+        this.resumeFileId = resumeFileId;
+    }
+
     public String getCoverLetter() {
         return coverLetter;
     }
@@ -109,5 +119,12 @@ public class ApplicationResponse {
     public void setNotes(String notes) {
         this.notes = notes;
     }
-}
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,89 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.model.enums.ApplicationStatus;
+import java.time.LocalDateTime;
+
+/**
+ * List view of an application. Leaves out the resume, cover letter and notes,
+ * which only {@link ApplicationResponse} carries.
+ */
+public class ApplicationSummaryResponse {
+    
+    private String id;
+    private String candidateId;
+    private String candidateName;
+    private String jobId;
+    private String jobTitle;
+    private ApplicationStatus status;
+    private LocalDateTime appliedAt;
+    private LocalDateTime reviewedAt;
+
+    // Constructors
+    public ApplicationSummaryResponse() {
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public void setCandidateName(String candidateName) {
+        this.candidateName = candidateName;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ApplicationStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(LocalDateTime appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+
+    public LocalDateTime getReviewedAt() {
+        return reviewedAt;
+    }
+
+    public void setReviewedAt(LocalDateTime reviewedAt) {
+        this.reviewedAt = reviewedAt;
+    }
+}
@@ -0,0 +1,43 @@
+package com.jobportal.dto.response;
+
+public class BulkUpdateResponse {
+    
+    private Integer requested; // Number of ids sent, null for filter updates
+    private long matched;
+    private long modified;
+
+    // Constructors
+    public BulkUpdateResponse() {
+    }
+
+    public BulkUpdateResponse(Integer requested, long matched, long modified) {
+        this.requested = requested;
+        this.matched = matched;
+        this.modified = modified;
+    }
+
+    // Getters and Setters
+    public Integer getRequested() {
+        return requested;
+    }
+
+    public void setRequested(Integer requested) {
+        this.requested = requested;
+    }
+
+    public long getMatched() {
+        return matched;
+    }
+
+    public void setMatched(long matched) {
+        this.matched = matched;
+    }
+
+    public long getModified() {
+        return modified;
+    }
+
+    public void setModified(long modified) {
+        this.modified = modified;
+    }
+}
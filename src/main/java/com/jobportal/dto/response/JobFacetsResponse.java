@@ -0,0 +1,57 @@
+package com.jobportal.dto.response;
+
+import java.util.Map;
+
+public class JobFacetsResponse {
+    
+    private PageResponse<JobSummaryResponse> jobs;
+    private Map<String, Long> locations;
+    private Map<String, Long> skills;
+    private Map<String, Long> employmentTypes;
+    private Map<String, Long> experience;
+
+    // Constructors
+    public JobFacetsResponse() {
+    }
+
+    // Getters and Setters
+    public PageResponse<JobSummaryResponse> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(PageResponse<JobSummaryResponse> jobs) {
+        this.jobs = jobs;
+    }
+
+    public Map<String, Long> getLocations() {
+        return locations;
+    }
+
+    public void setLocations(Map<String, Long> locations) {
+        this.locations = locations;
+    }
+
+    public Map<String, Long> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(Map<String, Long> skills) {
+        this.skills = skills;
+    }
+
+    public Map<String, Long> getEmploymentTypes() {
+        return employmentTypes;
+    }
+
+    public void setEmploymentTypes(Map<String, Long> employmentTypes) {
+        this.employmentTypes = employmentTypes;
+    }
+
+    public Map<String, Long> getExperience() {
+        return experience;
+    }
+
+    public void setExperience(Map<String, Long> experience) {
+        this.experience = experience;
+    }
+}
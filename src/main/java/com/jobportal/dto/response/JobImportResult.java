@@ -0,0 +1,69 @@
+package com.jobportal.dto.response;
+
+/**
+ * Outcome of one NDJSON line of a bulk job import.
+ */
+public class JobImportResult {
+    
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+    
+    private long line;
+    private Status status;
+    private String jobId;
+    private String error;
+
+    // Constructors
+    public JobImportResult() {
+    }
+
+    public JobImportResult(long line, Status status, String jobId, String error) {
+        this.line = line;
+        this.status = status;
+        this.jobId = jobId;
+        this.error = error;
+    }
+
+    public static JobImportResult created(long line, String jobId) {
+        return new JobImportResult(line, Status.CREATED, jobId, null);
+    }
+
+    public static JobImportResult failed(long line, String error) {
+        return new JobImportResult(line, Status.FAILED, null, error);
+    }
+
+    // Getters and Setters
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
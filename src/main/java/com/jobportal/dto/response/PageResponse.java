@@ -4,6 +4,16 @@ import java.util.List;
 
 public class PageResponse<T> {
     
+    /**
+     * How totalElements was obtained: a fresh count, a cached (possibly stale)
+     * count, or not computed at all (totalElements and totalPages are -1).
+     */
+    public enum TotalType {
+        EXACT,
+        ESTIMATED,
+        OMITTED
+    }
+    
     private List<T> content;
     private int page;
     private int size;
@@ -11,6 +21,8 @@ public class PageResponse<T> {
     private int totalPages;
     private boolean first;
     private boolean last;
+    private String nextCursor;
+    private TotalType totalType = TotalType.EXACT;
 
     // Constructors
     public PageResponse() {
@@ -26,6 +38,40 @@ public class PageResponse<T> {
         this.last = page >= totalPages - 1;
     }
 
+    /**
+     * Keyset page: there is no page number or total, so totalElements and
+     * totalPages are reported as -1 and nextCursor is null on the last page.
+     */
+    public static <T> PageResponse<T> keyset(List<T> content, int size, boolean first, String nextCursor) {
+        PageResponse<T> response = new PageResponse<>();
+        response.content = content;
+        response.page = -1;
+        response.size = size;
+        response.totalElements = -1;
+        response.totalPages = -1;
+        response.first = first;
+        response.last = nextCursor == null;
+        response.nextCursor = nextCursor;
+        response.totalType = TotalType.OMITTED;
+        return response;
+    }
+
+    /**
+     * Count-free offset page: only whether a next page exists is known.
+     */
+    public static <T> PageResponse<T> slice(List<T> content, int page, int size, boolean hasNext) {
+        PageResponse<T> response = new PageResponse<>();
+        response.content = content;
+        response.page = page;
+        response.size = size;
+        response.totalElements = -1;
+        response.totalPages = -1;
+        response.first = page == 0;
+        response.last = !hasNext;
+        response.totalType = TotalType.OMITTED;
+        return response;
+    }
+
     // Getters and Setters
     public List<T> getContent() {
         return content;
@@ -82,5 +128,20 @@ public class PageResponse<T> {
     public void setLast(boolean last) {
         this.last = last;
     }
-}
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public TotalType getTotalType() {
+        return totalType;
+    }
+
+    public void setTotalType(TotalType totalType) {
+        this.totalType = totalType;
+    }
+}
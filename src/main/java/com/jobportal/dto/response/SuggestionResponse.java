@@ -0,0 +1,45 @@
+package com.jobportal.dto.response;
+
+import com.jobportal.model.enums.SuggestionType;
+
+public class SuggestionResponse {
+    
+    private String text;
+    private SuggestionType type;
+    private int weight;
+
+    // Constructors
+    public SuggestionResponse() {
+    }
+
+    public SuggestionResponse(String text, SuggestionType type, int weight) {
+        this.text = text;
+        this.type = type;
+        this.weight = weight;
+    }
+
+    // Getters and Setters
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public SuggestionType getType() {
+        return type;
+    }
+
+    public void setType(SuggestionType type) {
+        this.type = type;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobportal.dto.response;
+
+public class ThrottleKeyResponse {
+    
+    private String type; // "username" or "ip"
+    private String key;
+    private int availableTokens;
+    private int capacity;
+    private long rejected;
+
+    // Constructors
+    public ThrottleKeyResponse() {
+    }
+
+    public ThrottleKeyResponse(String type, String key, int availableTokens, int capacity, long rejected) {
+        this.type = type;
+        this.key = key;
+        this.availableTokens = availableTokens;
+        this.capacity = capacity;
+        this.rejected = rejected;
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public int getAvailableTokens() {
+        return availableTokens;
+    }
+
+    public void setAvailableTokens(int availableTokens) {
+        this.availableTokens = availableTokens;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+}
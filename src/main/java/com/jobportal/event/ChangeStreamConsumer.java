@@ -0,0 +1,284 @@
+package com.jobportal.event;
+
+import com.jobportal.model.ChangeStreamCheckpoint;
+import com.jobportal.repository.ChangeStreamCheckpointRepository;
+import com.mongodb.MongoException;
+import com.mongodb.MongoServerException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tails a database change stream and hands the changes to every
+ * {@link CollectionChangeListener}, so caches and denormalized copies also
+ * follow edits made outside the services.
+ *
+ * Design Decisions:
+ * - One stream for the whole database, filtered server-side to the listened
+ *   collections and to insert/update/replace/delete
+ * - Changes are dispatched in batches of up to batch-size, or sooner once the
+ *   stream goes quiet, on a single consumer thread so order is preserved
+ * - The resume token is checkpointed after each dispatched batch and while idle,
+ *   so a restart resumes where it stopped and replays at most one batch
+ * - A token that has fallen off the oplog is dropped and listeners resync
+ * - Change streams need a replica set; on a standalone server the consumer
+ *   logs a warning and stays off. A single-node replica set is enough locally:
+ *   mongod --replSet rs0, then rs.initiate() and ?replicaSet=rs0 in MONGODB_URI
+ */
+@Component
+public class ChangeStreamConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamConsumer.class);
+
+    private static final String CONSUMER_NAME = "read-model";
+    private static final int NOT_A_REPLICA_SET = 40573;
+    private static final int HISTORY_LOST = 286;
+    private static final int FATAL_ERROR = 280;
+    private static final long MAX_BACKOFF_MS = 60000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ChangeStreamCheckpointRepository checkpointRepository;
+    private final List<CollectionChangeListener> listeners;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxAwaitMs;
+    private final long checkpointIntervalMs;
+    private volatile boolean running;
+    private Thread worker;
+
+    public ChangeStreamConsumer(MongoTemplate mongoTemplate,
+                                ChangeStreamCheckpointRepository checkpointRepository,
+                                List<CollectionChangeListener> listeners,
+                                @Value("${jobportal.change-stream.enabled:true}") boolean enabled,
+                                @Value("${jobportal.change-stream.batch-size:200}") int batchSize,
+                                @Value("${jobportal.change-stream.max-await-ms:500}") long maxAwaitMs,
+                                @Value("${jobportal.change-stream.checkpoint-interval-ms:10000}") long checkpointIntervalMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.listeners = listeners;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAwaitMs = maxAwaitMs;
+        this.checkpointIntervalMs = checkpointIntervalMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || listeners.isEmpty() || running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "change-stream-consumer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(maxAwaitMs * 4);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    private void run() {
+        Set<String> collections = new TreeSet<>();
+        listeners.forEach(listener -> collections.addAll(listener.collections()));
+        logger.info("Change stream consumer watching collections: {}", collections);
+
+        long backoffMs = 1000;
+        while (running) {
+            try {
+                consume(collections);
+            } catch (MongoServerException ex) {
+                if (ex.getCode() == NOT_A_REPLICA_SET) {
+                    logger.warn("Change streams need a replica set; external edits will only be picked up by the periodic repair");
+                    running = false;
+                    return;
+                }
+                if (ex.getCode() == HISTORY_LOST || ex.getCode() == FATAL_ERROR) {
+                    logger.warn("Change stream cannot resume ({}), resyncing listeners", ex.getMessage());
+                    checkpointRepository.deleteById(CONSUMER_NAME);
+                    resync();
+                    continue;
+                }
+                backoffMs = backOff(ex, backoffMs);
+            } catch (MongoException ex) {
+                backoffMs = backOff(ex, backoffMs);
+            }
+        }
+    }
+
+    private void consume(Set<String> collections) {
+        BsonDocument resumeToken = checkpointRepository.findById(CONSUMER_NAME)
+            .map(checkpoint -> BsonDocument.parse(checkpoint.getResumeToken()))
+            .orElse(null);
+
+        List<Bson> pipeline = List.of(Aggregates.match(Filters.and(
+            Filters.in("ns.coll", collections),
+            Filters.in("operationType", "insert", "update", "replace", "delete"))));
+        ChangeStreamIterable<Document> stream = mongoTemplate.getDb().watch(pipeline)
+            .fullDocument(FullDocument.UPDATE_LOOKUP)
+            .batchSize(batchSize)
+            .maxAwaitTime(maxAwaitMs, TimeUnit.MILLISECONDS);
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+            logger.info("Change stream opened{}", resumeToken != null ? " from checkpoint" : "");
+            List<CollectionChangeEvent> batch = new ArrayList<>(batchSize);
+            BsonDocument batchToken = null;
+            long lastCheckpoint = System.currentTimeMillis();
+
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null) {
+                    CollectionChangeEvent event = toEvent(change);
+                    if (event != null) {
+                        batch.add(event);
+                    }
+                    batchToken = change.getResumeToken();
+                    if (batch.size() < batchSize) {
+                        continue;
+                    }
+                }
+                if (batchToken != null) {
+                    dispatch(batch);
+                    checkpoint(batchToken);
+                    batch.clear();
+                    batchToken = null;
+                    lastCheckpoint = System.currentTimeMillis();
+                } else if (System.currentTimeMillis() - lastCheckpoint >= checkpointIntervalMs) {
+                    // Advance the token while idle so a quiet stream does not fall off the oplog
+                    BsonDocument idleToken = cursor.getResumeToken();
+                    if (idleToken != null) {
+                        checkpoint(idleToken);
+                    }
+                    lastCheckpoint = System.currentTimeMillis();
+                }
+            }
+        }
+    }
+
+    private void dispatch(List<CollectionChangeEvent> batch) {
+        for (CollectionChangeListener listener : listeners) {
+            Set<String> collections = listener.collections();
+            List<CollectionChangeEvent> changes = new ArrayList<>();
+            for (CollectionChangeEvent event : batch) {
+                if (collections.contains(event.getCollection())) {
+                    changes.add(event);
+                }
+            }
+            if (changes.isEmpty()) {
+                continue;
+            }
+            try {
+                listener.onChanges(changes);
+            } catch (RuntimeException ex) {
+                // The periodic repair heals whatever a failed listener missed
+                logger.error("Change listener {} failed on {} changes", 
+                            listener.getClass().getSimpleName(), changes.size(), ex);
+            }
+        }
+        logger.debug("Dispatched {} changes", batch.size());
+    }
+
+    private void resync() {
+        for (CollectionChangeListener listener : listeners) {
+            try {
+                listener.onResync();
+            } catch (RuntimeException ex) {
+                logger.error("Change listener {} failed to resync", listener.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+
+    private void checkpoint(BsonDocument resumeToken) {
+        checkpointRepository.save(new ChangeStreamCheckpoint(CONSUMER_NAME, resumeToken.toJson()));
+    }
+
+    private long backOff(MongoException ex, long backoffMs) {
+        logger.warn("Change stream interrupted, reopening in {} ms: {}", backoffMs, ex.getMessage());
+        try {
+            Thread.sleep(backoffMs);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+        return Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+    }
+
+    private static CollectionChangeEvent toEvent(ChangeStreamDocument<Document> change) {
+        if (change.getNamespace() == null || change.getDocumentKey() == null) {
+            return null;
+        }
+        CollectionChangeEvent.Operation operation;
+        switch (change.getOperationType()) {
+            case INSERT -> operation = CollectionChangeEvent.Operation.INSERT;
+            case UPDATE -> operation = CollectionChangeEvent.Operation.UPDATE;
+            case REPLACE -> operation = CollectionChangeEvent.Operation.REPLACE;
+            case DELETE -> operation = CollectionChangeEvent.Operation.DELETE;
+            default -> {
+                return null;
+            }
+        }
+
+        BsonValue id = change.getDocumentKey().get("_id");
+        String documentId = id == null ? null
+            : id.isObjectId() ? id.asObjectId().getValue().toHexString()
+            : id.isString() ? id.asString().getValue()
+            : id.toString();
+
+        return new CollectionChangeEvent(change.getNamespace().getCollectionName(), operation, documentId,
+                                         change.getFullDocument(), updatedFields(change.getUpdateDescription()));
+    }
+
+    private static Set<String> updatedFields(UpdateDescription description) {
+        if (description == null) {
+            return Collections.emptySet();
+        }
+        Set<String> fields = new HashSet<>();
+        if (description.getUpdatedFields() != null) {
+            description.getUpdatedFields().keySet().forEach(path -> fields.add(topLevel(path)));
+        }
+        if (description.getRemovedFields() != null) {
+            description.getRemovedFields().forEach(path -> fields.add(topLevel(path)));
+        }
+        return fields;
+    }
+
+    private static String topLevel(String path) {
+        int dot = path.indexOf('.');
+        return dot < 0 ? path : path.substring(0, dot);
+    }
+}
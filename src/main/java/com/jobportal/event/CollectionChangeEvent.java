@@ -0,0 +1,71 @@
+package com.jobportal.event;
+
+import org.bson.Document;
+
+import java.util.Set;
+
+/**
+ * A single insert, update, replace or delete read from the change stream.
+ * The full document is the post-change state looked up by the server and is
+ * null for deletes (and for updates whose document has since been removed).
+ */
+public class CollectionChangeEvent {
+    
+    public enum Operation {
+        INSERT, UPDATE, REPLACE, DELETE
+    }
+    
+    private final String collection;
+    private final Operation operation;
+    private final String documentId;
+    private final Document fullDocument;
+    private final Set<String> updatedFields;
+
+    public CollectionChangeEvent(String collection, Operation operation, String documentId,
+                                 Document fullDocument, Set<String> updatedFields) {
+        this.collection = collection;
+        this.operation = operation;
+        this.documentId = documentId;
+        this.fullDocument = fullDocument;
+        this.updatedFields = updatedFields;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getDocumentId() {
+        return documentId;
+    }
+
+    public Document getFullDocument() {
+        return fullDocument;
+    }
+
+    /**
+     * Top-level names of the fields set or removed by an update; empty for other operations.
+     */
+    public Set<String> getUpdatedFields() {
+        return updatedFields;
+    }
+
+    /**
+     * Whether the change may have touched any of the fields. Inserts and
+     * replaces count as touching every field.
+     */
+    public boolean touches(String... fields) {
+        if (operation == Operation.INSERT || operation == Operation.REPLACE) {
+            return true;
+        }
+        for (String field : fields) {
+            if (updatedFields.contains(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.jobportal.event;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Receives change-stream events for the collections it names. Beans
+ * implementing this interface are registered with {@link ChangeStreamConsumer}
+ * automatically. Delivery is at-least-once, so handlers must be idempotent.
+ */
+public interface CollectionChangeListener {
+
+    Set<String> collections();
+
+    /**
+     * Called on the consumer thread with a batch of changes, in stream order,
+     * filtered to this listener's collections.
+     */
+    void onChanges(List<CollectionChangeEvent> changes);
+
+    /**
+     * Called when the stream could not be resumed and changes may have been
+     * missed; the listener should rebuild whatever it derives from the data.
+     */
+    default void onResync() {
+    }
+}
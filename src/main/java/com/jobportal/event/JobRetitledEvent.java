@@ -0,0 +1,24 @@
+package com.jobportal.event;
+
+/**
+ * Published after a job's title changes so that denormalized copies of the
+ * title can be refreshed.
+ */
+public class JobRetitledEvent {
+    
+    private final String jobId;
+    private final String title;
+
+    public JobRetitledEvent(String jobId, String title) {
+        this.jobId = jobId;
+        this.title = title;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobportal.event;
+
+/**
+ * Published after a user is deactivated so that anything cached for the
+ * user's sessions can be dropped.
+ */
+public class UserDeactivatedEvent {
+    
+    private final String userId;
+
+    public UserDeactivatedEvent(String userId) {
+        this.userId = userId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+}
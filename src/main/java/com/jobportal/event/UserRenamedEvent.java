@@ -0,0 +1,34 @@
+package com.jobportal.event;
+
+/**
+ * Published after a user's first or last name changes so that denormalized
+ * copies of the display name can be refreshed.
+ */
+public class UserRenamedEvent {
+    
+    private final String userId;
+    private final String firstName;
+    private final String lastName;
+
+    public UserRenamedEvent(String userId, String firstName, String lastName) {
+        this.userId = userId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getDisplayName() {
+        return firstName + " " + lastName;
+    }
+}
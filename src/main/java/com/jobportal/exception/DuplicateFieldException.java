@@ -0,0 +1,18 @@
+package com.jobportal.exception;
+
+/**
+ * A unique field (such as email or username) is already taken.
+ */
+public class DuplicateFieldException extends IllegalArgumentException {
+    
+    private final String field;
+    
+    public DuplicateFieldException(String field, String message) {
+        super(message);
+        this.field = field;
+    }
+    
+    public String getField() {
+        return field;
+    }
+}
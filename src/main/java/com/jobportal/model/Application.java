@@ -2,6 +2,7 @@ package com.jobportal.model;
 
 import com.jobportal.model.enums.ApplicationStatus;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -14,32 +15,60 @@ import java.time.LocalDateTime;
  * 
  * Design Decisions:
  * - Compound unique index on (candidate, job) to prevent duplicate applications
- * - DBRef to User and Job for referential integrity
+ * - DBRef to User and Job for referential integrity, loaded lazily
+ * - Candidate id/name and job id/title snapshots so listings never resolve the references;
+ *   written on apply, kept current by rename events and repaired by a background sync
+ * - Recruiter id snapshot so status changes check ownership in the update predicate
+ * - Version counter bumped on every status transition for optimistic concurrency
  * - Index on status for filtering applications by status
  * - Index on appliedAt for sorting
- * - Embedded resume data (could be moved to separate collection if very large)
+ * - Compound (jobId, appliedAt, _id), (jobId, status, appliedAt) and (candidateId, appliedAt, _id)
+ *   indexes for keyset paging
+ * - Resume stored in GridFS and referenced by resumeFileId; the inline resume
+ *   field is only read from documents that predate the move
  */
 @Document(collection = "applications")
 @CompoundIndex(def = "{'candidate': 1, 'job': 1}", unique = true, name = "unique_application")
+@CompoundIndex(def = "{'jobId': 1, 'appliedAt': -1, '_id': -1}", name = "jobId_appliedAt_id")
+@CompoundIndex(def = "{'jobId': 1, 'status': 1, 'appliedAt': -1}", name = "jobId_status_appliedAt")
+@CompoundIndex(def = "{'candidateId': 1, 'appliedAt': -1, '_id': -1}", name = "candidateId_appliedAt_id")
 public class Application {
     
     @Id
     private String id;
     
-    @DBRef
+    @DBRef(lazy = true)
     @Field("candidate")
     private User candidate;
     
-    @DBRef
+    @DBRef(lazy = true)
     @Field("job")
     private Job job;
     
+    @Field("candidateId")
+    private String candidateId;
+    
+    @Field("candidateName")
+    private String candidateName; // Snapshot of "firstName lastName"
+    
+    @Field("jobId")
+    private String jobId;
+    
+    @Field("jobTitle")
+    private String jobTitle; // Snapshot of the job title
+    
+    @Field("recruiterId")
+    private String recruiterId; // Snapshot of the job's postedById
+    
     @Field("status")
     @org.springframework.data.mongodb.core.index.Indexed
     private ApplicationStatus status;
     
     @Field("resume")
-    private String resume; // Resume text or file path
+    private String resume; // Legacy inline resume text, moved to GridFS on startup
+    
+    @Field("resumeFileId")
+    private String resumeFileId; // GridFS file id of the resume
     
     @Field("coverLetter")
     private String coverLetter;
@@ -53,6 +82,10 @@ public class Application {
     
     @Field("notes")
     private String notes; // Recruiter notes
+    
+    @Version
+    @Field("version")
+    private Long version;
 
     // Constructors
     public Application() {
@@ -64,6 +97,11 @@ public class Application {
         this();
         this.candidate = candidate;
         this.job = job;
+        this.candidateId = candidate.getId();
+        this.candidateName = candidate.getFirstName() + " " + candidate.getLastName();
+        this.jobId = job.getId();
+        this.jobTitle = job.getTitle();
+        this.recruiterId = job.getPostedById();
         this.resume = resume;
         this.coverLetter = coverLetter;
     }
@@ -93,6 +131,46 @@ public class Application {
         this.job = job;
     }
 
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public void setCandidateName(String candidateName) {
+        this.candidateName = candidateName;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public String getRecruiterId() {
+        return recruiterId;
+    }
+
+    public void setRecruiterId(String recruiterId) {
+        this.recruiterId = recruiterId;
+    }
+
     public ApplicationStatus getStatus() {
         return status;
     }
@@ -109,6 +187,14 @@ public class Application {
         this.resume = resume;
     }
 
+    public String getResumeFileId() {
+        return resumeFileId;
+    }
+
+    public void setResumeFileId(String resumeFileId) {
+        this.resumeFileId = resumeFileId;
+    }
+
     public String getCoverLetter() {
         return coverLetter;
     }
@@ -140,5 +226,12 @@ public class Application {
     public void setNotes(String notes) {
         this.notes = notes;
     }
-}
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobportal.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change Stream Checkpoint Document Model
+ * 
+ * Design Decisions:
+ * - One document per consumer, keyed by consumer name
+ * - Resume token kept as its extended JSON so any token shape round-trips
+ * - Written after each dispatched batch, so a restart replays at most one batch
+ */
+@Document(collection = "change_stream_checkpoints")
+public class ChangeStreamCheckpoint {
+    
+    @Id
+    private String id;
+    
+    @Field("resumeToken")
+    private String resumeToken;
+    
+    @Field("updatedAt")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ChangeStreamCheckpoint() {
+    }
+
+    public ChangeStreamCheckpoint(String id, String resumeToken) {
+        this.id = id;
+        this.resumeToken = resumeToken;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getResumeToken() {
+        return resumeToken;
+    }
+
+    public void setResumeToken(String resumeToken) {
+        this.resumeToken = resumeToken;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,79 @@
+package com.jobportal.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency Key Document Model
+ * 
+ * Design Decisions:
+ * - Id is the client's Idempotency-Key scoped to the candidate, so keys from
+ *   different users never collide and a lookup is a single _id read
+ * - Remembers the job the key was used for, to reject reuse on another request
+ * - TTL index on createdAt: keys only need to outlive client retries
+ */
+@Document(collection = "idempotency_keys")
+public class IdempotencyKey {
+    
+    @Id
+    private String id;
+    
+    @Field("jobId")
+    private String jobId;
+    
+    @Field("applicationId")
+    private String applicationId;
+    
+    @Indexed(expireAfterSeconds = 86400)
+    @Field("createdAt")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public IdempotencyKey() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public IdempotencyKey(String id, String jobId, String applicationId) {
+        this();
+        this.id = id;
+        this.jobId = jobId;
+        this.applicationId = applicationId;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
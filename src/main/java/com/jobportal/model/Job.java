@@ -1,6 +1,9 @@
 package com.jobportal.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -15,22 +18,27 @@ import java.util.List;
  * Job Document Model
  * 
  * Design Decisions:
- * - Text indexes on title, description, location, skills for full-text search
- * - Reference to User (recruiter) for relationship tracking
+ * - Text indexes on title, description, location, skills for full-text search,
+ *   weighted so title matches rank above skills, location and description
+ * - Interned skill ids alongside the free-form skills for exact, index-served skill matching
+ * - Optional GeoJSON point geocoded from location, with a 2dsphere index for radius search
+ * - Reference to User (recruiter) for relationship tracking, loaded lazily
+ * - Recruiter id and display name denormalized so listings never resolve the reference
  * - Embedded salary range for better query performance
  * - Index on isActive for filtering active jobs
- * - Index on createdAt for sorting
+ * - Index on createdAt for sorting; the compound index ends in _id so the
+ *   keyset tie-breaker is served by the index too
  */
 @Document(collection = "jobs")
 @org.springframework.data.mongodb.core.index.CompoundIndex(
-    def = "{'isActive': 1, 'createdAt': -1}"
+    def = "{'isActive': 1, 'createdAt': -1, '_id': -1}"
 )
 public class Job {
     
     @Id
     private String id;
     
-    @TextIndexed
+    @TextIndexed(weight = 10)
     @Field("title")
     private String title;
     
@@ -38,14 +46,22 @@ public class Job {
     @Field("description")
     private String description;
     
-    @TextIndexed
+    @TextIndexed(weight = 2)
     @Field("location")
     private String location;
     
-    @TextIndexed
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    @Field("geoLocation")
+    private GeoJsonPoint geoLocation; // Geocoded from location; null when unknown
+    
+    @TextIndexed(weight = 5)
     @Field("skills")
     private List<String> skills;
     
+    @Indexed
+    @Field("skillIds")
+    private List<Integer> skillIds; // Canonical ids from the skill dictionary
+    
     @Field("experienceRequired")
     private Integer experienceRequired; // in years
     
@@ -58,11 +74,18 @@ public class Job {
     @Field("employmentType")
     private String employmentType; // FULL_TIME, PART_TIME, CONTRACT, REMOTE
     
-    @DBRef
+    @DBRef(lazy = true)
     @Indexed
     @Field("postedBy")
     private User postedBy; // Recruiter reference
     
+    @Indexed
+    @Field("postedById")
+    private String postedById; // Denormalized recruiter id
+    
+    @Field("postedByName")
+    private String postedByName; // Denormalized "firstName lastName", synced on rename
+    
     @Field("isActive")
     @Indexed
     private Boolean isActive;
@@ -72,6 +95,7 @@ public class Job {
     private LocalDateTime createdAt;
     
     @Field("updatedAt")
+    @Indexed
     private LocalDateTime updatedAt;
 
     // Constructors
@@ -114,6 +138,14 @@ public class Job {
         this.location = location;
     }
 
+    public GeoJsonPoint getGeoLocation() {
+        return geoLocation;
+    }
+
+    public void setGeoLocation(GeoJsonPoint geoLocation) {
+        this.geoLocation = geoLocation;
+    }
+
     public List<String> getSkills() {
         return skills;
     }
@@ -122,6 +154,14 @@ public class Job {
         this.skills = skills;
     }
 
+    public List<Integer> getSkillIds() {
+        return skillIds;
+    }
+
+    public void setSkillIds(List<Integer> skillIds) {
+        this.skillIds = skillIds;
+    }
+
     public Integer getExperienceRequired() {
         return experienceRequired;
     }
@@ -162,6 +202,22 @@ public class Job {
         this.postedBy = postedBy;
     }
 
+    public String getPostedById() {
+        return postedById;
+    }
+
+    public void setPostedById(String postedById) {
+        this.postedById = postedById;
+    }
+
+    public String getPostedByName() {
+        return postedByName;
+    }
+
+    public void setPostedByName(String postedByName) {
+        this.postedByName = postedByName;
+    }
+
     public Boolean getIsActive() {
         return isActive;
     }
@@ -0,0 +1,119 @@
+package com.jobportal.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * JWT Signing Key Document Model
+ * 
+ * Design Decisions:
+ * - Id is the key id (kid) written into token headers; it is derived from the
+ *   rotation slot, so instances rotating at the same time agree on one key
+ * - Keys are published (JWKS, verification) from creation but only sign from
+ *   activatesAt, giving verifiers time to fetch a key before they see it
+ * - TTL index on expiresAt drops a key once every token it signed has expired
+ * - Private key stored PKCS#8-encoded; database read access is as sensitive
+ *   as the HMAC secret it replaces
+ */
+@Document(collection = "jwt_signing_keys")
+public class SigningKey {
+    
+    @Id
+    private String id;
+    
+    @Field("algorithm")
+    private String algorithm; // JWS algorithm: ES256 or EdDSA
+    
+    @Field("keyAlgorithm")
+    private String keyAlgorithm; // JCA key algorithm used to decode the keys
+    
+    @Field("publicKey")
+    private String publicKey; // Base64 X.509 encoding
+    
+    @Field("privateKey")
+    private String privateKey; // Base64 PKCS#8 encoding
+    
+    @Field("createdAt")
+    private LocalDateTime createdAt;
+    
+    @Field("activatesAt")
+    private LocalDateTime activatesAt;
+    
+    @Indexed(expireAfterSeconds = 0)
+    @Field("expiresAt")
+    private LocalDateTime expiresAt;
+
+    // Constructors
+    public SigningKey() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public void setKeyAlgorithm(String keyAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+    }
+
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public void setPublicKey(String publicKey) {
+        this.publicKey = publicKey;
+    }
+
+    public String getPrivateKey() {
+        return privateKey;
+    }
+
+    public void setPrivateKey(String privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getActivatesAt() {
+        return activatesAt;
+    }
+
+    public void setActivatesAt(LocalDateTime activatesAt) {
+        this.activatesAt = activatesAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,79 @@
+package com.jobportal.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * Skill Document Model
+ * 
+ * Design Decisions:
+ * - Canonical skill dictionary: one document per normalized skill name
+ * - Small integer ids (allocated from a counter) so jobs can store and match
+ *   skill ids instead of free-form strings
+ * - Unique index on the normalized name so concurrent interning converges
+ */
+@Document(collection = "skills")
+public class Skill {
+    
+    @Id
+    private Integer id;
+    
+    @Indexed(unique = true)
+    @Field("name")
+    private String name; // Normalized: trimmed, lower-case, single spaces
+    
+    @Field("displayName")
+    private String displayName; // As first submitted
+    
+    @Field("createdAt")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public Skill() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Skill(Integer id, String name, String displayName) {
+        this();
+        this.id = id;
+        this.name = name;
+        this.displayName = displayName;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
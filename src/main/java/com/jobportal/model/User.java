@@ -2,6 +2,7 @@ package com.jobportal.model;
 
 import com.jobportal.model.enums.Role;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -15,18 +16,26 @@ import java.time.LocalDateTime;
  * - User management independent of jobs/applications
  * - Scalability: Users can be queried independently
  * - Indexing: Email and username indexes for fast lookups
+ * - Email and username unique indexes use a case-insensitive collation, so
+ *   sign-up relies on them alone and lookups with the same collation stay index-served
+ * - Index on (createdAt, _id) for sorted and keyset-paginated admin listings
  */
 @Document(collection = "users")
+@CompoundIndex(def = "{'createdAt': -1, '_id': -1}", name = "createdAt_id")
 public class User {
     
+    public static final String CASE_INSENSITIVE_COLLATION = "{ 'locale': 'en', 'strength': 2 }";
+    public static final String EMAIL_INDEX = "email_ci";
+    public static final String USERNAME_INDEX = "username_ci";
+    
     @Id
     private String id;
     
-    @Indexed(unique = true)
+    @Indexed(name = EMAIL_INDEX, unique = true, collation = CASE_INSENSITIVE_COLLATION)
     @Field("email")
     private String email;
     
-    @Indexed(unique = true)
+    @Indexed(name = USERNAME_INDEX, unique = true, collation = CASE_INSENSITIVE_COLLATION)
     @Field("username")
     private String username;
     
@@ -49,6 +58,7 @@ public class User {
     private LocalDateTime createdAt;
     
     @Field("updatedAt")
+    @Indexed
     private LocalDateTime updatedAt;
 
     // Constructors
@@ -1,9 +1,43 @@
 package com.jobportal.model.enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum ApplicationStatus {
     APPLIED,
     REVIEWED,
     REJECTED,
-    ACCEPTED
-}
+    ACCEPTED;
+
+    /**
+     * Legal transitions: APPLIED may be reviewed or decided, REVIEWED may be
+     * decided, and REJECTED and ACCEPTED are final.
+     */
+    public Set<ApplicationStatus> nextStatuses() {
+        switch (this) {
+            case APPLIED:
+                return EnumSet.of(REVIEWED, REJECTED, ACCEPTED);
+            case REVIEWED:
+                return EnumSet.of(REJECTED, ACCEPTED);
+            default:
+                return EnumSet.noneOf(ApplicationStatus.class);
+        }
+    }
 
+    public boolean canTransitionTo(ApplicationStatus next) {
+        return nextStatuses().contains(next);
+    }
+
+    /**
+     * Every status that may legally move to {@code target}.
+     */
+    public static Set<ApplicationStatus> previousStatusesOf(ApplicationStatus target) {
+        Set<ApplicationStatus> previous = EnumSet.noneOf(ApplicationStatus.class);
+        for (ApplicationStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                previous.add(status);
+            }
+        }
+        return previous;
+    }
+}
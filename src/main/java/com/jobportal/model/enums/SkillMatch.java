@@ -0,0 +1,6 @@
+package com.jobportal.model.enums;
+
+public enum SkillMatch {
+    ANY,
+    ALL
+}
@@ -0,0 +1,7 @@
+package com.jobportal.model.enums;
+
+public enum SuggestionType {
+    TITLE,
+    SKILL,
+    LOCATION
+}
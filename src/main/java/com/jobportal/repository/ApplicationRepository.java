@@ -5,25 +5,32 @@ import com.jobportal.model.enums.ApplicationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface ApplicationRepository extends MongoRepository<Application, String> {
+public interface ApplicationRepository extends MongoRepository<Application, String>, ApplicationRepositoryCustom {
     
-    Optional<Application> findByCandidate_IdAndJob_Id(String candidateId, String jobId);
+    // List queries leave out the large text fields; only findById loads the full document
+    String SUMMARY_FIELDS = "{'resume': 0, 'coverLetter': 0, 'notes': 0}";
     
-    Page<Application> findByCandidate_Id(String candidateId, Pageable pageable);
+    Optional<Application> findByCandidateIdAndJobId(String candidateId, String jobId);
     
-    Page<Application> findByJob_Id(String jobId, Pageable pageable);
+    @Query(value = "{'candidateId': ?0}", fields = SUMMARY_FIELDS)
+    Page<Application> findByCandidateId(String candidateId, Pageable pageable);
     
-    Page<Application> findByJob_IdAndStatus(String jobId, ApplicationStatus status, Pageable pageable);
+    @Query(value = "{'jobId': ?0}", fields = SUMMARY_FIELDS)
+    Page<Application> findByJobId(String jobId, Pageable pageable);
     
-    boolean existsByCandidate_IdAndJob_Id(String candidateId, String jobId);
+    @Query(value = "{'jobId': ?0, 'status': ?1}", fields = SUMMARY_FIELDS)
+    Page<Application> findByJobIdAndStatus(String jobId, ApplicationStatus status, Pageable pageable);
     
-    long countByJob_Id(String jobId);
+    boolean existsByCandidateIdAndJobId(String candidateId, String jobId);
     
-    long countByJob_IdAndStatus(String jobId, ApplicationStatus status);
+    long countByJobId(String jobId);
+    
+    long countByJobIdAndStatus(String jobId, ApplicationStatus status);
 }
 
@@ -0,0 +1,64 @@
+package com.jobportal.repository;
+
+import com.jobportal.model.Application;
+import com.jobportal.model.enums.ApplicationStatus;
+import com.mongodb.client.result.UpdateResult;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ApplicationRepositoryCustom {
+    List<Application> findByJobAfter(String jobId, KeysetCursor cursor, int limit);
+    
+    List<Application> findByCandidateAfter(String candidateId, KeysetCursor cursor, int limit);
+    
+    long backfillSnapshotIds();
+    
+    long updateCandidateNameSnapshot(String candidateId, String candidateName);
+    
+    long updateJobTitleSnapshot(String jobId, String jobTitle);
+    
+    long updateRecruiterSnapshot(String jobId, String recruiterId);
+    
+    /**
+     * Sets the resume file of an application that has no resume yet.
+     *
+     * @return whether the application took the file
+     */
+    boolean attachResume(String applicationId, String resumeFileId);
+    
+    /**
+     * Rewrites the job-title, recruiter-id and candidate-name snapshots of the
+     * applications whose values no longer match their job or candidate, in one
+     * server-side aggregation. Only applications of the given jobs or candidates
+     * are examined; null for both examines every application.
+     *
+     * Merges into the collection it reads from, which needs MongoDB 4.4 or later.
+     */
+    void repairStaleSnapshots(Collection<String> jobIds, Collection<String> candidateIds);
+    
+    /**
+     * Atomically moves the application to {@code status} if it is currently in one of
+     * {@code fromStatuses}, belongs to {@code recruiterId} (null skips the ownership check)
+     * and is at {@code expectedVersion} (null skips the version check).
+     *
+     * @return the updated application, or null if any condition did not hold
+     */
+    Application transitionStatus(String applicationId, String recruiterId, Collection<ApplicationStatus> fromStatuses,
+                                 Long expectedVersion, ApplicationStatus status, String notes);
+    
+    /**
+     * Moves every application of the job that is in one of {@code fromStatuses} to
+     * {@code status} in a single updateMany, optionally narrowed to {@code applicationIds}
+     * and to applications submitted before {@code appliedBefore}.
+     */
+    UpdateResult bulkTransitionStatus(String jobId, Collection<String> applicationIds, 
+                                      Collection<ApplicationStatus> fromStatuses, LocalDateTime appliedBefore, 
+                                      ApplicationStatus status, String notes);
+    
+    /**
+     * Status, job, ownership and version of an application, without the large fields.
+     */
+    Application findStateById(String applicationId);
+}
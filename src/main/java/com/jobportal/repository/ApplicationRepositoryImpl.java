@@ -0,0 +1,238 @@
+package com.jobportal.repository;
+
+import com.jobportal.model.Application;
+import com.jobportal.model.Job;
+import com.jobportal.model.User;
+import com.jobportal.model.enums.ApplicationStatus;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
+    
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    
+    private final MongoTemplate mongoTemplate;
+
+    public ApplicationRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<Application> findByJobAfter(String jobId, KeysetCursor cursor, int limit) {
+        return findAfter("jobId", jobId, cursor, limit);
+    }
+
+    @Override
+    public List<Application> findByCandidateAfter(String candidateId, KeysetCursor cursor, int limit) {
+        return findAfter("candidateId", candidateId, cursor, limit);
+    }
+
+    private List<Application> findAfter(String idField, String refId, KeysetCursor cursor, int limit) {
+        // Seeks on the {<idField>, appliedAt} compound index
+        Query query = KeysetCursor.seek(new Query(Criteria.where(idField).is(refId)), "appliedAt", cursor, limit);
+        query.fields().exclude("resume", "coverLetter", "notes");
+        
+        return mongoTemplate.find(query, Application.class);
+    }
+
+    @Override
+    public long backfillSnapshotIds() {
+        // Older documents only carry the DBRefs; copy their ids into the snapshot fields
+        Query query = new Query(Criteria.where("jobId").exists(false));
+        query.fields().include("candidate", "job");
+        
+        String collection = mongoTemplate.getCollectionName(Application.class);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        int pending = 0;
+        long updated = 0;
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, collection)) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                DBRef candidate = document.get("candidate", DBRef.class);
+                DBRef job = document.get("job", DBRef.class);
+                if (candidate == null || job == null) {
+                    continue;
+                }
+                bulk.updateOne(new Query(Criteria.where("_id").is(document.get("_id"))),
+                               new Update().set("candidateId", candidate.getId().toString())
+                                           .set("jobId", job.getId().toString()));
+                if (++pending == BACKFILL_BATCH_SIZE) {
+                    updated += bulk.execute().getModifiedCount();
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            updated += bulk.execute().getModifiedCount();
+        }
+        return updated;
+    }
+
+    @Override
+    public long updateCandidateNameSnapshot(String candidateId, String candidateName) {
+        return updateSnapshot("candidateId", candidateId, "candidateName", candidateName);
+    }
+
+    @Override
+    public long updateJobTitleSnapshot(String jobId, String jobTitle) {
+        return updateSnapshot("jobId", jobId, "jobTitle", jobTitle);
+    }
+
+    @Override
+    public long updateRecruiterSnapshot(String jobId, String recruiterId) {
+        return updateSnapshot("jobId", jobId, "recruiterId", recruiterId);
+    }
+
+    @Override
+    public boolean attachResume(String applicationId, String resumeFileId) {
+        Query query = new Query(Criteria.where("id").is(applicationId)
+            .and("resumeFileId").exists(false)
+            .and("resume").exists(false));
+        return mongoTemplate.updateFirst(query, new Update().set("resumeFileId", resumeFileId), Application.class)
+            .getModifiedCount() == 1;
+    }
+
+    @Override
+    public void repairStaleSnapshots(Collection<String> jobIds, Collection<String> candidateIds) {
+        // Each application joins its job and candidate by _id; only rows whose
+        // snapshot differs reach $merge, so an in-sync pass writes nothing
+        Criteria scope = Criteria.where("jobId").exists(true).and("candidateId").exists(true);
+        if (jobIds != null || candidateIds != null) {
+            // Served by the jobId and candidateId indexes
+            scope = new Criteria().andOperator(scope, new Criteria().orOperator(
+                Criteria.where("jobId").in(jobIds != null ? jobIds : List.of()),
+                Criteria.where("candidateId").in(candidateIds != null ? candidateIds : List.of())));
+        }
+        Document job = snapshotLookup(mongoTemplate.getCollectionName(Job.class), "jobId", "job",
+            new Document("title", 1).append("postedById", 1));
+        Document candidate = snapshotLookup(mongoTemplate.getCollectionName(User.class), "candidateId", "candidate",
+            new Document("name", new Document("$concat", List.of("$firstName", " ", "$lastName"))));
+        Document stale = new Document("$or", List.of(
+            differs("$jobTitle", "$job.title"),
+            differs("$recruiterId", "$job.postedById"),
+            differs("$candidateName", "$candidate.name")));
+        String collection = mongoTemplate.getCollectionName(Application.class);
+        
+        List<AggregationOperation> stages = List.of(
+            Aggregation.match(scope),
+            Aggregation.project("jobId", "candidateId", "jobTitle", "recruiterId", "candidateName"),
+            context -> job,
+            context -> candidate,
+            context -> new Document("$set", new Document("job", new Document("$arrayElemAt", List.of("$job", 0)))
+                .append("candidate", new Document("$arrayElemAt", List.of("$candidate", 0)))),
+            context -> new Document("$match", new Document("$expr", stale)),
+            context -> new Document("$project", new Document("jobTitle", new Document("$ifNull", List.of("$job.title", "$jobTitle")))
+                .append("recruiterId", new Document("$ifNull", List.of("$job.postedById", "$recruiterId")))
+                .append("candidateName", new Document("$ifNull", List.of("$candidate.name", "$candidateName")))),
+            // $merge into the collection being aggregated requires MongoDB 4.4+
+            context -> new Document("$merge", new Document("into", collection)
+                .append("on", "_id")
+                .append("whenMatched", "merge")
+                .append("whenNotMatched", "discard")));
+        mongoTemplate.aggregate(Aggregation.newAggregation(stages), collection, Document.class);
+    }
+
+    /**
+     * Joins the single document whose _id is the application's {@code idField},
+     * converting the string snapshot id back to an ObjectId where it is one.
+     */
+    private static Document snapshotLookup(String from, String idField, String as, Document project) {
+        Document id = new Document("$convert", new Document("input", "$" + idField)
+            .append("to", "objectId")
+            .append("onError", "$" + idField));
+        return new Document("$lookup", new Document("from", from)
+            .append("let", new Document("id", id))
+            .append("pipeline", List.of(
+                new Document("$match", new Document("$expr", new Document("$eq", List.of("$_id", "$$id")))),
+                new Document("$project", project)))
+            .append("as", as));
+    }
+
+    /**
+     * True when the source value exists and the snapshot does not equal it.
+     */
+    private static Document differs(String snapshot, String source) {
+        return new Document("$and", List.of(
+            new Document("$ne", List.of(new Document("$type", source), "missing")),
+            new Document("$ne", List.of(snapshot, source))));
+    }
+
+    @Override
+    public Application transitionStatus(String applicationId, String recruiterId, 
+                                        Collection<ApplicationStatus> fromStatuses, Long expectedVersion, 
+                                        ApplicationStatus status, String notes) {
+        // Legality, ownership and version all live in the predicate, so the check
+        // and the write are one atomic round trip
+        Criteria criteria = Criteria.where("id").is(applicationId).and("status").in(fromStatuses);
+        if (recruiterId != null) {
+            criteria.and("recruiterId").is(recruiterId);
+        }
+        if (expectedVersion != null) {
+            criteria.and("version").is(expectedVersion);
+        }
+        
+        return mongoTemplate.findAndModify(new Query(criteria), statusUpdate(status, notes), 
+                                           FindAndModifyOptions.options().returnNew(true), Application.class);
+    }
+
+    /**
+     * A transition always stamps reviewedAt and bumps the version; notes are only
+     * replaced when given, so a status change without notes keeps the existing ones.
+     */
+    private static Update statusUpdate(ApplicationStatus status, String notes) {
+        Update update = new Update()
+            .set("status", status)
+            .set("reviewedAt", LocalDateTime.now())
+            .inc("version", 1);
+        if (notes != null) {
+            update.set("notes", notes);
+        }
+        return update;
+    }
+
+    @Override
+    public UpdateResult bulkTransitionStatus(String jobId, Collection<String> applicationIds, 
+                                             Collection<ApplicationStatus> fromStatuses, LocalDateTime appliedBefore, 
+                                             ApplicationStatus status, String notes) {
+        // The jobId clause keeps ids from other jobs out, so ownership is checked once per job
+        Criteria criteria = Criteria.where("jobId").is(jobId).and("status").in(fromStatuses);
+        if (applicationIds != null && !applicationIds.isEmpty()) {
+            criteria.and("id").in(applicationIds);
+        }
+        if (appliedBefore != null) {
+            criteria.and("appliedAt").lt(appliedBefore);
+        }
+        
+        return mongoTemplate.updateMulti(new Query(criteria), statusUpdate(status, notes), Application.class);
+    }
+
+    @Override
+    public Application findStateById(String applicationId) {
+        Query query = new Query(Criteria.where("id").is(applicationId));
+        query.fields().include("status", "recruiterId", "jobId", "version");
+        return mongoTemplate.findOne(query, Application.class);
+    }
+
+    private long updateSnapshot(String idField, String id, String snapshotField, String value) {
+        // Only touches stale rows, so a repair pass over unchanged data writes nothing
+        Query query = new Query(Criteria.where(idField).is(id).and(snapshotField).ne(value));
+        return mongoTemplate.updateMulti(query, new Update().set(snapshotField, value), Application.class)
+            .getModifiedCount();
+    }
+}
@@ -0,0 +1,9 @@
+package com.jobportal.repository;
+
+import com.jobportal.model.IdempotencyKey;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IdempotencyKeyRepository extends MongoRepository<IdempotencyKey, String> {
+}
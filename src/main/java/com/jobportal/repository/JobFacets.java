@@ -0,0 +1,54 @@
+package com.jobportal.repository;
+
+import com.jobportal.model.Job;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of filtered jobs together with the facet counts over the whole
+ * filtered set, as returned by a single $facet aggregation.
+ */
+public class JobFacets {
+    
+    private final List<Job> jobs;
+    private final long total;
+    private final Map<String, Long> locations;
+    private final Map<String, Long> skills;
+    private final Map<String, Long> employmentTypes;
+    private final Map<String, Long> experience;
+
+    public JobFacets(List<Job> jobs, long total, Map<String, Long> locations, Map<String, Long> skills,
+                     Map<String, Long> employmentTypes, Map<String, Long> experience) {
+        this.jobs = jobs;
+        this.total = total;
+        this.locations = locations;
+        this.skills = skills;
+        this.employmentTypes = employmentTypes;
+        this.experience = experience;
+    }
+
+    public List<Job> getJobs() {
+        return jobs;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<String, Long> getLocations() {
+        return locations;
+    }
+
+    public Map<String, Long> getSkills() {
+        return skills;
+    }
+
+    public Map<String, Long> getEmploymentTypes() {
+        return employmentTypes;
+    }
+
+    public Map<String, Long> getExperience() {
+        return experience;
+    }
+}
@@ -7,11 +7,17 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobRepository extends MongoRepository<Job, String>, JobRepositoryCustom {
     
+    // List queries leave out the description; only findById loads the full document
+    String SUMMARY_FIELDS = "{'description': 0}";
+    
+    @Query(value = "{'isActive': true}", fields = SUMMARY_FIELDS)
     Page<Job> findByIsActiveTrue(Pageable pageable);
     
     Page<Job> findByIsActiveTrueAndTitleContainingIgnoreCase(String title, Pageable pageable);
@@ -22,10 +28,10 @@ public interface JobRepository extends MongoRepository<Job, String>, JobReposito
     
     Page<Job> findByIsActiveTrueAndExperienceRequiredLessThanEqual(Integer experienceRequired, Pageable pageable);
     
-    @Query("{'isActive': true, $or: [{'title': {$regex: ?0, $options: 'i'}}, " +
+    @Query(value = "{'isActive': true, $or: [{'title': {$regex: ?0, $options: 'i'}}, " +
            "{'description': {$regex: ?0, $options: 'i'}}, " +
            "{'location': {$regex: ?0, $options: 'i'}}, " +
-           "{'skills': {$in: [?0]}}]}")
+           "{'skills': {$in: [?0]}}]}", fields = SUMMARY_FIELDS)
     Page<Job> searchJobs(String searchTerm, Pageable pageable);
     
     // Note: Complex filtering is handled in service layer for better flexibility
@@ -33,6 +39,13 @@ public interface JobRepository extends MongoRepository<Job, String>, JobReposito
     @Query("{'isActive': true}")
     Page<Job> findAllActiveJobs(Pageable pageable);
     
-    Page<Job> findByPostedBy_IdAndIsActiveTrue(String postedById, Pageable pageable);
+    @Query(value = "{'postedById': ?0, 'isActive': true}", fields = SUMMARY_FIELDS)
+    Page<Job> findByPostedByIdAndIsActiveTrue(String postedById, Pageable pageable);
+    
+    @Query(value = "{'_id': ?0}", fields = "{'title': 1, 'postedById': 1, 'postedBy': 1, 'isActive': 1}")
+    Optional<Job> findApplyFieldsById(String id);
+    
+    @Query(value = "{'updatedAt': {$gte: ?0}}", fields = "{'_id': 1}")
+    List<Job> findIdsUpdatedSince(LocalDateTime since);
 }
 
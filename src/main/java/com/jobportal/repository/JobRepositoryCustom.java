@@ -1,13 +1,52 @@
 package com.jobportal.repository;
 
 import com.jobportal.model.Job;
+import com.jobportal.model.enums.SkillMatch;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
 public interface JobRepositoryCustom {
-    Page<Job> findJobsByFilters(String title, String location, List<String> skills, 
-                               Integer experienceRequired, Pageable pageable);
+    Page<Job> findJobsByFilters(String title, String location, List<Integer> skillIds, 
+                               SkillMatch skillMatch, Integer experienceRequired, Pageable pageable);
+    
+    Slice<Job> findJobsByFiltersSlice(String title, String location, List<Integer> skillIds, 
+                                     SkillMatch skillMatch, Integer experienceRequired, Pageable pageable);
+    
+    long countJobsByFilters(String title, String location, List<Integer> skillIds, 
+                            SkillMatch skillMatch, Integer experienceRequired);
+    
+    JobFacets findJobFacets(String title, String location, List<Integer> skillIds, 
+                            SkillMatch skillMatch, Integer experienceRequired, Pageable pageable);
+    
+    Page<Job> findJobsNear(String title, List<Integer> skillIds, SkillMatch skillMatch, 
+                           Integer experienceRequired, GeoJsonPoint center, double radiusKm, 
+                           Pageable pageable);
+    
+    Page<Job> searchJobsByRelevance(String searchTerm, Pageable pageable);
+    
+    List<Job> findActiveJobsAfter(KeysetCursor cursor, int limit);
+    
+    List<Job> findSummariesByIds(Collection<String> ids);
+    
+    /**
+     * Ids of recruiters whose jobs predate the denormalized postedById/postedByName fields.
+     */
+    List<String> findRecruiterIdsMissingPostedBy();
+    
+    long backfillPostedBy(String recruiterId, String recruiterName);
+    
+    long updatePostedByName(String recruiterId, String recruiterName);
+    
+    /**
+     * Sets skillIds on jobs saved before skills were interned; idempotent.
+     * Once no job is left without skillIds, skill filters stop matching
+     * free-form skill names.
+     */
+    long backfillSkillIds(Function<List<String>, List<Integer>> interner);
 }
-
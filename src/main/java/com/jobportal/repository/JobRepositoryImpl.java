@@ -1,58 +1,379 @@
 package com.jobportal.repository;
 
 import com.jobportal.model.Job;
+import com.jobportal.model.Skill;
+import com.jobportal.model.enums.SkillMatch;
+import org.bson.Document;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class JobRepositoryImpl implements JobRepositoryCustom {
     
+    private static final int FACET_LIMIT = 20;
+    private static final Integer[] EXPERIENCE_BOUNDARIES = {0, 2, 5, 10};
+    private static final String EXPERIENCE_OTHER_BUCKET = "10+";
+    private static final String[] DETAIL_FIELDS = {"description"};
+    private static final double RECENCY_HALF_LIFE_DAYS = 30.0;
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    
     private final MongoTemplate mongoTemplate;
+    
+    // Set once no job is left without skillIds; skill filters then match by id only
+    private volatile boolean skillIdsBackfilled;
 
     public JobRepositoryImpl(MongoTemplate mongoTemplate) {
         this.mongoTemplate = mongoTemplate;
     }
 
     @Override
-    public Page<Job> findJobsByFilters(String title, String location, List<String> skills, 
-                                       Integer experienceRequired, Pageable pageable) {
-        Query query = new Query();
+    public Page<Job> findJobsByFilters(String title, String location, List<Integer> skillIds, 
+                                       SkillMatch skillMatch, Integer experienceRequired, Pageable pageable) {
+        Query query = buildFilterQuery(title, location, skillIds, skillMatch, experienceRequired);
+        
+        // Apply pagination and sorting
+        query.with(pageable);
+        excludeDetailFields(query);
+        
+        // Execute query; the count runs on the unpaged filter
+        List<Job> jobs = mongoTemplate.find(query, Job.class);
+        long total = countJobsByFilters(title, location, skillIds, skillMatch, experienceRequired);
+        
+        return new PageImpl<>(jobs, pageable, total);
+    }
+
+    @Override
+    public Slice<Job> findJobsByFiltersSlice(String title, String location, List<Integer> skillIds, 
+                                             SkillMatch skillMatch, Integer experienceRequired, Pageable pageable) {
+        Query query = buildFilterQuery(title, location, skillIds, skillMatch, experienceRequired);
+        query.with(pageable);
+        
+        // Fetch one extra row to learn whether a next page exists without counting
+        query.limit(pageable.getPageSize() + 1);
+        excludeDetailFields(query);
+        List<Job> jobs = mongoTemplate.find(query, Job.class);
+        
+        boolean hasNext = jobs.size() > pageable.getPageSize();
+        List<Job> content = hasNext ? jobs.subList(0, pageable.getPageSize()) : jobs;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public long countJobsByFilters(String title, String location, List<Integer> skillIds, 
+                                   SkillMatch skillMatch, Integer experienceRequired) {
+        Query query = buildFilterQuery(title, location, skillIds, skillMatch, experienceRequired);
+        return mongoTemplate.count(query, Job.class);
+    }
+
+    @Override
+    public JobFacets findJobFacets(String title, String location, List<Integer> skillIds, 
+                                   SkillMatch skillMatch, Integer experienceRequired, Pageable pageable) {
+        // One round trip: the page, the total and every facet count share the same $match
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(buildFilterCriteria(title, location, skillIds, skillMatch, experienceRequired)),
+            Aggregation.facet(
+                    Aggregation.sort(pageable.getSort()),
+                    Aggregation.skip(pageable.getOffset()),
+                    Aggregation.limit(pageable.getPageSize()),
+                    Aggregation.project().andExclude(DETAIL_FIELDS))
+                .as("page")
+                .and(Aggregation.count().as("total")).as("total")
+                .and(Aggregation.sortByCount("location"), Aggregation.limit(FACET_LIMIT)).as("locations")
+                .and(Aggregation.unwind("skills"), Aggregation.sortByCount("skills"), 
+                     Aggregation.limit(FACET_LIMIT)).as("skills")
+                .and(Aggregation.sortByCount("employmentType")).as("employmentTypes")
+                .and(Aggregation.bucket("experienceRequired")
+                        .withBoundaries((Object[]) EXPERIENCE_BOUNDARIES)
+                        .withDefaultBucket(EXPERIENCE_OTHER_BUCKET)).as("experience")
+        );
         
+        Document result = mongoTemplate.aggregate(aggregation, Job.class, Document.class)
+            .getUniqueMappedResult();
+        if (result == null) {
+            return new JobFacets(List.of(), 0, Map.of(), Map.of(), Map.of(), Map.of());
+        }
+        
+        List<Job> jobs = result.getList("page", Document.class).stream()
+            .map(doc -> mongoTemplate.getConverter().read(Job.class, doc))
+            .collect(Collectors.toList());
+        List<Document> totalDocs = result.getList("total", Document.class);
+        long total = totalDocs.isEmpty() ? 0 : ((Number) totalDocs.get(0).get("total")).longValue();
+        
+        return new JobFacets(
+            jobs,
+            total,
+            toCounts(result.getList("locations", Document.class)),
+            toCounts(result.getList("skills", Document.class)),
+            toCounts(result.getList("employmentTypes", Document.class)),
+            toExperienceCounts(result.getList("experience", Document.class))
+        );
+    }
+
+    @Override
+    public Page<Job> findJobsNear(String title, List<Integer> skillIds, SkillMatch skillMatch, 
+                                  Integer experienceRequired, GeoJsonPoint center, double radiusKm, 
+                                  Pageable pageable) {
+        // $geoNear must lead the pipeline; the other filters ride along as its query
+        NearQuery nearQuery = NearQuery.near(center)
+            .spherical(true)
+            .maxDistance(new Distance(radiusKm, Metrics.KILOMETERS))
+            .query(new Query(buildFilterCriteria(title, null, skillIds, skillMatch, experienceRequired)));
+        
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.geoNear(nearQuery, "distance"),
+            Aggregation.facet(
+                    Aggregation.skip(pageable.getOffset()),
+                    Aggregation.limit(pageable.getPageSize()),
+                    Aggregation.project().andExclude(DETAIL_FIELDS))
+                .as("page")
+                .and(Aggregation.count().as("total")).as("total")
+        );
+        
+        Document result = mongoTemplate.aggregate(aggregation, Job.class, Document.class)
+            .getUniqueMappedResult();
+        if (result == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        
+        List<Job> jobs = result.getList("page", Document.class).stream()
+            .map(doc -> mongoTemplate.getConverter().read(Job.class, doc))
+            .collect(Collectors.toList());
+        List<Document> totalDocs = result.getList("total", Document.class);
+        long total = totalDocs.isEmpty() ? 0 : ((Number) totalDocs.get(0).get("total")).longValue();
+        
+        return new PageImpl<>(jobs, pageable, total);
+    }
+
+    private Map<String, Long> toCounts(List<Document> buckets) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Document bucket : buckets) {
+            Object value = bucket.get("_id");
+            if (value != null) {
+                counts.put(value.toString(), ((Number) bucket.get("count")).longValue());
+            }
+        }
+        return counts;
+    }
+
+    private Map<String, Long> toExperienceCounts(List<Document> buckets) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Document bucket : buckets) {
+            Object lowerBound = bucket.get("_id");
+            String label = EXPERIENCE_OTHER_BUCKET;
+            for (int i = 0; i < EXPERIENCE_BOUNDARIES.length - 1; i++) {
+                if (EXPERIENCE_BOUNDARIES[i].equals(lowerBound)) {
+                    label = EXPERIENCE_BOUNDARIES[i] + "-" + (EXPERIENCE_BOUNDARIES[i + 1] - 1);
+                }
+            }
+            counts.put(label, ((Number) bucket.get("count")).longValue());
+        }
+        return counts;
+    }
+
+    private Query buildFilterQuery(String title, String location, List<Integer> skillIds, 
+                                   SkillMatch skillMatch, Integer experienceRequired) {
+        return new Query(buildFilterCriteria(title, location, skillIds, skillMatch, experienceRequired));
+    }
+
+    private Criteria buildFilterCriteria(String title, String location, List<Integer> skillIds, 
+                                         SkillMatch skillMatch, Integer experienceRequired) {
         // Always filter active jobs
-        query.addCriteria(Criteria.where("isActive").is(true));
+        Criteria criteria = Criteria.where("isActive").is(true);
         
         // Add filters if provided
         if (title != null && !title.trim().isEmpty()) {
-            query.addCriteria(Criteria.where("title").regex(title, "i"));
+            criteria.and("title").regex(title.trim(), "i");
         }
         
         if (location != null && !location.trim().isEmpty()) {
-            query.addCriteria(Criteria.where("location").regex(location, "i"));
+            criteria.and("location").regex(location.trim(), "i");
         }
         
-        if (skills != null && !skills.isEmpty()) {
-            query.addCriteria(Criteria.where("skills").in(skills));
+        // Match on interned skill ids so spelling and case variants are the same skill
+        if (skillIds != null && !skillIds.isEmpty()) {
+            Criteria byId = skillMatch == SkillMatch.ALL
+                ? Criteria.where("skillIds").all(skillIds)
+                : Criteria.where("skillIds").in(skillIds);
+            Criteria byName = legacySkillCriteria(skillIds, skillMatch);
+            criteria.andOperator(byName == null ? byId : new Criteria().orOperator(byId, byName));
         }
         
         if (experienceRequired != null) {
-            query.addCriteria(Criteria.where("experienceRequired").lte(experienceRequired));
+            criteria.and("experienceRequired").lte(experienceRequired);
         }
         
-        // Apply pagination and sorting
-        query.with(pageable);
+        return criteria;
+    }
+
+    /**
+     * Jobs saved before skills were interned have no skillIds until the startup
+     * backfill reaches them; match their free-form skills by normalized name.
+     * Not needed, and not built, once the backfill has completed.
+     */
+    private Criteria legacySkillCriteria(List<Integer> skillIds, SkillMatch skillMatch) {
+        if (skillIdsBackfilled) {
+            return null;
+        }
+        List<Pattern> names = mongoTemplate.find(new Query(Criteria.where("_id").in(skillIds)), Skill.class)
+            .stream()
+            .map(skill -> skillNamePattern(skill.getName()))
+            .collect(Collectors.toList());
+        if (names.isEmpty() || (skillMatch == SkillMatch.ALL && names.size() < skillIds.size())) {
+            return null;
+        }
+        Criteria criteria = Criteria.where("skillIds").exists(false);
+        return skillMatch == SkillMatch.ALL ? criteria.and("skills").all(names) : criteria.and("skills").in(names);
+    }
+
+    private static Pattern skillNamePattern(String normalizedName) {
+        String words = Stream.of(normalizedName.split(" "))
+            .map(Pattern::quote)
+            .collect(Collectors.joining("\\s+"));
+        return Pattern.compile("^\\s*" + words + "\\s*$", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    @Override
+    public Page<Job> searchJobsByRelevance(String searchTerm, Pageable pageable) {
+        TextCriteria textCriteria = TextCriteria.forDefaultLanguage().matching(searchTerm);
         
-        // Execute query
-        List<Job> jobs = mongoTemplate.find(query, Job.class);
-        long total = mongoTemplate.count(query, Job.class);
+        // Served by the weighted text index. Rank is textScore scaled by a recency
+        // decay, H / (H + ageDays), so a posting's weight halves after H days
+        Document ageDays = new Document("$divide", List.of(
+            new Document("$subtract", List.of("$$NOW", "$createdAt")), 86_400_000L));
+        Document relevance = new Document("$multiply", List.of(
+            new Document("$meta", "textScore"),
+            new Document("$divide", List.of(RECENCY_HALF_LIFE_DAYS, 
+                new Document("$add", List.of(RECENCY_HALF_LIFE_DAYS, new Document("$max", List.of(ageDays, 0))))))));
+        
+        Document unset = new Document("relevance", 0);
+        for (String field : DETAIL_FIELDS) {
+            unset.append(field, 0);
+        }
+        List<AggregationOperation> stages = List.of(
+            context -> new Document("$match", new Document("$text", new Document("$search", searchTerm))
+                .append("isActive", true)),
+            context -> new Document("$addFields", new Document("relevance", relevance)),
+            context -> new Document("$sort", new Document("relevance", -1).append("createdAt", -1).append("_id", -1)),
+            Aggregation.skip(pageable.getOffset()),
+            Aggregation.limit(pageable.getPageSize()),
+            context -> new Document("$project", unset));
+        List<Job> jobs = mongoTemplate.aggregate(Aggregation.newAggregation(stages), 
+                                              mongoTemplate.getCollectionName(Job.class), Job.class)
+            .getMappedResults();
+        
+        Query countQuery = TextQuery.queryText(textCriteria)
+            .addCriteria(Criteria.where("isActive").is(true));
+        long total = mongoTemplate.count(countQuery, Job.class);
         
         return new PageImpl<>(jobs, pageable, total);
     }
-}
 
+    @Override
+    public List<Job> findActiveJobsAfter(KeysetCursor cursor, int limit) {
+        // Seeks on the {isActive, createdAt} compound index; no skip and no count
+        Query query = KeysetCursor.seek(new Query(Criteria.where("isActive").is(true)), "createdAt", cursor, limit);
+        excludeDetailFields(query);
+        
+        return mongoTemplate.find(query, Job.class);
+    }
+
+    @Override
+    public List<Job> findSummariesByIds(Collection<String> ids) {
+        Query query = new Query(Criteria.where("id").in(ids));
+        excludeDetailFields(query);
+        return mongoTemplate.find(query, Job.class);
+    }
+
+    /**
+     * List views never show the description, so list queries leave it out.
+     */
+    private static void excludeDetailFields(Query query) {
+        query.fields().exclude(DETAIL_FIELDS);
+    }
+
+    @Override
+    public List<String> findRecruiterIdsMissingPostedBy() {
+        // Raw distinct over the DBRef id so no recruiter documents are loaded
+        Document filter = new Document("postedById", new Document("$exists", false))
+            .append("postedBy", new Document("$exists", true));
+        List<String> recruiterIds = new ArrayList<>();
+        for (Object id : mongoTemplate.getCollection(mongoTemplate.getCollectionName(Job.class))
+                .distinct("postedBy.$id", filter, Object.class)) {
+            recruiterIds.add(id.toString());
+        }
+        return recruiterIds;
+    }
+
+    @Override
+    public long backfillPostedBy(String recruiterId, String recruiterName) {
+        Query query = new Query(Criteria.where("postedBy.$id").is(MongoIds.toStored(recruiterId))
+            .and("postedById").exists(false));
+        Update update = new Update()
+            .set("postedById", recruiterId)
+            .set("postedByName", recruiterName);
+        return mongoTemplate.updateMulti(query, update, Job.class).getModifiedCount();
+    }
+
+    @Override
+    public long backfillSkillIds(Function<List<String>, List<Integer>> interner) {
+        Query query = new Query(Criteria.where("skillIds").exists(false));
+        query.fields().include("skills");
+        
+        String collection = mongoTemplate.getCollectionName(Job.class);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        int pending = 0;
+        long updated = 0;
+        try (Stream<Job> jobs = mongoTemplate.stream(query, Job.class)) {
+            for (Job job : (Iterable<Job>) jobs::iterator) {
+                // Guarded on the missing field so a concurrent save's ids are never overwritten
+                bulk.updateOne(new Query(Criteria.where("_id").is(MongoIds.toStored(job.getId()))
+                                   .and("skillIds").exists(false)),
+                               new Update().set("skillIds", interner.apply(job.getSkills())));
+                if (++pending == BACKFILL_BATCH_SIZE) {
+                    updated += bulk.execute().getModifiedCount();
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            updated += bulk.execute().getModifiedCount();
+        }
+        skillIdsBackfilled = !mongoTemplate.exists(new Query(Criteria.where("skillIds").exists(false)), Job.class);
+        return updated;
+    }
+
+    @Override
+    public long updatePostedByName(String recruiterId, String recruiterName) {
+        Query query = new Query(Criteria.where("postedById").is(recruiterId));
+        Update update = new Update().set("postedByName", recruiterName);
+        return mongoTemplate.updateMulti(query, update, Job.class).getModifiedCount();
+    }
+}
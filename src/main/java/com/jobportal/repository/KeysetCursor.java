@@ -0,0 +1,93 @@
+package com.jobportal.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque search-after position for keyset pagination.
+ *
+ * Encodes the last row's sort value and id so the next page can seek with a
+ * range predicate on an indexed field instead of skipping rows. Ordering is
+ * always sort value desc, then id desc as the tie-breaker. Rows without a
+ * sort value sort last, so a cursor on one of them only seeks by id.
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime sortValue;
+    private final String id;
+
+    private KeysetCursor(LocalDateTime sortValue, String id) {
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    public static String encode(LocalDateTime sortValue, String id) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalStateException("Cannot build a cursor for a row without an id");
+        }
+        String raw = (sortValue == null ? "" : sortValue.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode}; a null or blank token means "first page".
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime sortValue = separator == 0 ? null : LocalDateTime.parse(raw.substring(0, separator));
+            return new KeysetCursor(sortValue, raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Restricts the query to the page after the cursor in (field desc, _id desc)
+     * order; a null cursor means the first page.
+     */
+    public static Query seek(Query query, String field, KeysetCursor cursor, int limit) {
+        if (cursor != null) {
+            query.addCriteria(cursor.toSeekCriteria(field));
+        }
+        return query.with(Sort.by(Sort.Direction.DESC, field, "id")).limit(limit);
+    }
+
+    /**
+     * Rows strictly after this cursor in (field desc, _id desc) order.
+     */
+    public Criteria toSeekCriteria(String field) {
+        Object idValue = MongoIds.toStored(id);
+        if (sortValue == null) {
+            return Criteria.where(field).is(null).and("_id").lt(idValue);
+        }
+        return new Criteria().orOperator(
+            Criteria.where(field).lt(sortValue),
+            Criteria.where(field).is(sortValue).and("_id").lt(idValue),
+            Criteria.where(field).is(null)
+        );
+    }
+
+    public LocalDateTime getSortValue() {
+        return sortValue;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
@@ -0,0 +1,17 @@
+package com.jobportal.repository;
+
+import org.bson.types.ObjectId;
+
+/**
+ * String ids are stored as ObjectIds when they look like one, so raw
+ * criteria on _id or a DBRef $id have to convert them the same way.
+ */
+final class MongoIds {
+
+    private MongoIds() {
+    }
+
+    static Object toStored(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
@@ -0,0 +1,104 @@
+package com.jobportal.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.LazyLoadingProxy;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Batch loader for lazy {@code @DBRef} properties.
+ *
+ * Design Decisions:
+ * - Reads the referenced ids off the lazy proxies without initializing them,
+ *   then loads every missing target with one $in query per collection
+ * - Loaded documents go into an identity map scoped to the current HTTP
+ *   request, so the same user or job is fetched at most once per request;
+ *   outside a request the map lives for a single call
+ * - References that are already plain entities are left untouched
+ */
+@Component
+public class ReferenceResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceResolver.class);
+
+    private static final String IDENTITY_MAP_ATTRIBUTE = ReferenceResolver.class.getName() + ".IDENTITY_MAP";
+
+    private final MongoTemplate mongoTemplate;
+
+    public ReferenceResolver(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Replaces the lazy {@code type} reference on every owner with the loaded document.
+     *
+     * @param owners    documents holding the reference
+     * @param reference reads the (possibly proxied) referenced value from an owner
+     * @param setter    writes the loaded document back onto the owner
+     * @param type      referenced document type
+     */
+    public <T, R> void resolve(Collection<T> owners, Function<T, Object> reference,
+                               BiConsumer<T, R> setter, Class<R> type) {
+        Map<T, String> idsByOwner = new LinkedHashMap<>();
+        for (T owner : owners) {
+            if (reference.apply(owner) instanceof LazyLoadingProxy proxy) {
+                idsByOwner.put(owner, proxy.toDBRef().getId().toString());
+            }
+        }
+        if (idsByOwner.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> known = identityMap(type);
+        List<Object> missing = idsByOwner.values().stream()
+            .distinct()
+            .filter(id -> !known.containsKey(id))
+            .map(MongoIds::toStored)
+            .toList();
+        if (!missing.isEmpty()) {
+            PersistentEntity<?, ?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(type);
+            for (R loaded : mongoTemplate.find(new Query(Criteria.where("_id").in(missing)), type)) {
+                Object id = entity.getIdentifierAccessor(loaded).getIdentifier();
+                known.put(String.valueOf(id), loaded);
+            }
+            logger.debug("Resolved {} {} references with one query", missing.size(), type.getSimpleName());
+        }
+
+        idsByOwner.forEach((owner, id) -> {
+            Object loaded = known.get(id);
+            if (loaded != null) {
+                setter.accept(owner, type.cast(loaded));
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> identityMap(Class<?> type) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+        Map<Class<?>, Map<String, Object>> maps = (Map<Class<?>, Map<String, Object>>)
+            attributes.getAttribute(IDENTITY_MAP_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (maps == null) {
+            maps = new HashMap<>();
+            attributes.setAttribute(IDENTITY_MAP_ATTRIBUTE, maps, RequestAttributes.SCOPE_REQUEST);
+        }
+        return maps.computeIfAbsent(type, t -> new HashMap<>());
+    }
+}
@@ -0,0 +1,14 @@
+package com.jobportal.repository;
+
+import com.jobportal.model.SigningKey;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SigningKeyRepository extends MongoRepository<SigningKey, String> {
+    
+    List<SigningKey> findByExpiresAtAfter(LocalDateTime now);
+}
@@ -0,0 +1,13 @@
+package com.jobportal.repository;
+
+import com.jobportal.model.Skill;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SkillRepository extends MongoRepository<Skill, Integer> {
+    
+    Optional<Skill> findByName(String name);
+}
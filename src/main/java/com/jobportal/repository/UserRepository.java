@@ -1,22 +1,29 @@
 package com.jobportal.repository;
 
 import com.jobportal.model.User;
+import org.springframework.data.mongodb.core.annotation.Collation;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
     
+    // Same collation as the unique indexes, so these match case-insensitively and use them
+    @Collation(User.CASE_INSENSITIVE_COLLATION)
     Optional<User> findByEmail(String email);
     
+    @Collation(User.CASE_INSENSITIVE_COLLATION)
     Optional<User> findByUsername(String username);
     
+    @Collation(User.CASE_INSENSITIVE_COLLATION)
     Optional<User> findByEmailOrUsername(String email, String username);
     
-    boolean existsByEmail(String email);
-    
-    boolean existsByUsername(String username);
+    @Query(value = "{'updatedAt': {$gte: ?0}}", fields = "{'_id': 1}")
+    List<User> findIdsUpdatedSince(LocalDateTime since);
 }
 
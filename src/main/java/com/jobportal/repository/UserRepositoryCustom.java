@@ -0,0 +1,20 @@
+package com.jobportal.repository;
+
+import com.jobportal.model.User;
+
+import java.util.List;
+
+public interface UserRepositoryCustom {
+    List<User> findAllAfter(KeysetCursor cursor, int limit);
+    
+    /**
+     * Replaces the password hash only if it is still {@code currentHash}, so a
+     * background rehash never overwrites a password changed in the meantime.
+     */
+    boolean replacePasswordHash(String userId, String currentHash, String newHash);
+    
+    /**
+     * Drops the case-sensitive email/username indexes superseded by the collated ones.
+     */
+    List<String> dropLegacyUniqueIndexes();
+}
@@ -0,0 +1,49 @@
+package com.jobportal.repository;
+
+import com.jobportal.model.User;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class UserRepositoryImpl implements UserRepositoryCustom {
+    
+    private final MongoTemplate mongoTemplate;
+
+    public UserRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<User> findAllAfter(KeysetCursor cursor, int limit) {
+        Query query = KeysetCursor.seek(new Query(), "createdAt", cursor, limit);
+        return mongoTemplate.find(query, User.class);
+    }
+
+    @Override
+    public List<String> dropLegacyUniqueIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(User.class);
+        List<String> dropped = new ArrayList<>();
+        for (IndexInfo index : indexOps.getIndexInfo()) {
+            if (index.getName().equals("email") || index.getName().equals("username")) {
+                indexOps.dropIndex(index.getName());
+                dropped.add(index.getName());
+            }
+        }
+        return dropped;
+    }
+
+    @Override
+    public boolean replacePasswordHash(String userId, String currentHash, String newHash) {
+        Query query = new Query(Criteria.where("id").is(userId).and("password").is(currentHash));
+        return mongoTemplate.updateFirst(query, new Update().set("password", newHash), User.class)
+            .getModifiedCount() > 0;
+    }
+}
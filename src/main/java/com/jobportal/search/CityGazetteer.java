@@ -0,0 +1,78 @@
+package com.jobportal.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Offline geocoder backed by a local city gazetteer file.
+ *
+ * Design Decisions:
+ * - Loaded once at startup; lookups never leave the process
+ * - Free-text locations like "Bangalore, India" or "Remote / Pune" are split
+ *   on separators and the first part that names a known city wins
+ * - Unknown locations simply stay without coordinates
+ */
+@Component
+public class CityGazetteer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CityGazetteer.class);
+
+    private final Map<String, GeoJsonPoint> pointsByCity = new HashMap<>();
+
+    public CityGazetteer(@Value("${jobportal.geo.gazetteer:classpath:geo/cities.csv}") Resource gazetteer) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(gazetteer.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (parts.length != 3) {
+                    logger.warn("Skipping malformed gazetteer line: {}", line);
+                    continue;
+                }
+                double latitude = Double.parseDouble(parts[1].trim());
+                double longitude = Double.parseDouble(parts[2].trim());
+                pointsByCity.put(normalize(parts[0]), new GeoJsonPoint(longitude, latitude));
+            }
+            logger.info("Loaded {} gazetteer entries", pointsByCity.size());
+        } catch (IOException ex) {
+            logger.error("Could not load city gazetteer, geo search disabled", ex);
+        }
+    }
+
+    public Optional<GeoJsonPoint> locate(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        GeoJsonPoint point = pointsByCity.get(normalize(location));
+        if (point != null) {
+            return Optional.of(point);
+        }
+        for (String part : location.split("[,/;|()\\-]")) {
+            point = pointsByCity.get(normalize(part));
+            if (point != null) {
+                return Optional.of(point);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,172 @@
+package com.jobportal.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * Compact int doc ids for the jobs held by an in-memory index.
+ *
+ * Each doc id carries its job id, createdAt and whatever the index needs to
+ * undo the job's postings on removal. Freed ids are reused. Not thread-safe;
+ * callers hold their index's lock.
+ */
+final class DocIdTable<T> {
+
+    private final Map<String, Integer> docIdsByJobId = new HashMap<>();
+    private final List<String> jobIdsByDocId = new ArrayList<>();
+    private final List<T> postingsByDocId = new ArrayList<>();
+    private final Deque<Integer> freeDocIds = new ArrayDeque<>();
+    private long[] createdAtByDocId = new long[1024];
+
+    void clear() {
+        docIdsByJobId.clear();
+        jobIdsByDocId.clear();
+        postingsByDocId.clear();
+        freeDocIds.clear();
+    }
+
+    int size() {
+        return docIdsByJobId.size();
+    }
+
+    /**
+     * One past the highest doc id handed out, for sizing per-query bitsets.
+     */
+    int capacity() {
+        return jobIdsByDocId.size();
+    }
+
+    int add(String jobId, LocalDateTime createdAt, T postings) {
+        int docId;
+        if (!freeDocIds.isEmpty()) {
+            docId = freeDocIds.pop();
+            jobIdsByDocId.set(docId, jobId);
+            postingsByDocId.set(docId, postings);
+        } else {
+            docId = jobIdsByDocId.size();
+            jobIdsByDocId.add(jobId);
+            postingsByDocId.add(postings);
+            if (docId >= createdAtByDocId.length) {
+                createdAtByDocId = Arrays.copyOf(createdAtByDocId, createdAtByDocId.length * 2);
+            }
+        }
+        docIdsByJobId.put(jobId, docId);
+        createdAtByDocId[docId] = createdAt != null ? createdAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        return docId;
+    }
+
+    Integer docId(String jobId) {
+        return docIdsByJobId.get(jobId);
+    }
+
+    T postings(int docId) {
+        return postingsByDocId.get(docId);
+    }
+
+    void release(int docId) {
+        docIdsByJobId.remove(jobIdsByDocId.get(docId));
+        jobIdsByDocId.set(docId, null);
+        postingsByDocId.set(docId, null);
+        createdAtByDocId[docId] = 0L;
+        freeDocIds.push(docId);
+    }
+
+    /**
+     * Orders the matching doc ids newest first, ties broken by job id desc like
+     * the database listing, and returns the requested page.
+     *
+     * Only the first offset + limit matches are kept, in a bounded heap whose
+     * root is the oldest of them, so a broad term costs one pass over its
+     * matches rather than a full sort.
+     */
+    IndexPage page(IntStream docIds, int offset, int limit) {
+        int keep = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        int[] heap = new int[Math.min(keep, 64)];
+        int size = 0;
+        int total = 0;
+
+        PrimitiveIterator.OfInt matches = docIds.iterator();
+        while (matches.hasNext()) {
+            int docId = matches.nextInt();
+            total++;
+            if (size < keep) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min((long) size * 2, keep));
+                }
+                heap[size] = docId;
+                siftUp(heap, size++);
+            } else if (keep > 0 && precedes(docId, heap[0])) {
+                heap[0] = docId;
+                siftDown(heap, 0, size);
+            }
+        }
+        if (total == 0) {
+            return new IndexPage(Collections.emptyList(), 0);
+        }
+
+        // Heap sort in place: repeatedly move the oldest remaining match to the end
+        for (int end = size - 1; end > 0; end--) {
+            int oldest = heap[0];
+            heap[0] = heap[end];
+            heap[end] = oldest;
+            siftDown(heap, 0, end);
+        }
+
+        int from = Math.min(offset, size);
+        List<String> jobIds = new ArrayList<>(size - from);
+        for (int i = from; i < size; i++) {
+            jobIds.add(jobIdsByDocId.get(heap[i]));
+        }
+        return new IndexPage(jobIds, total);
+    }
+
+    /**
+     * Whether doc a is listed before doc b: newer createdAt, then larger job id.
+     */
+    private boolean precedes(int a, int b) {
+        int cmp = Long.compare(createdAtByDocId[a], createdAtByDocId[b]);
+        return cmp != 0 ? cmp > 0 : jobIdsByDocId.get(a).compareTo(jobIdsByDocId.get(b)) > 0;
+    }
+
+    private void siftUp(int[] heap, int pos) {
+        int docId = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!precedes(heap[parent], docId)) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = docId;
+    }
+
+    private void siftDown(int[] heap, int pos, int size) {
+        int docId = heap[pos];
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && precedes(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!precedes(docId, heap[child])) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = docId;
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobportal.search;
+
+import java.util.List;
+
+/**
+ * One page of job ids answered by an in-memory index, plus the total hit count.
+ */
+public final class IndexPage {
+
+    private final List<String> jobIds;
+    private final long total;
+
+    public IndexPage(List<String> jobIds, long total) {
+        this.jobIds = jobIds;
+        this.total = total;
+    }
+
+    public List<String> getJobIds() {
+        return jobIds;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,269 @@
+package com.jobportal.search;
+
+import com.jobportal.model.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over active jobs.
+ *
+ * Design Decisions:
+ * - Each active job gets a compact int doc id; freed ids are reused on removal
+ * - Posting lists are sorted int arrays keyed by term in a sorted dictionary,
+ *   so a query token matches every indexed term it is a prefix of. Tokens
+ *   shorter than MIN_PREFIX_LENGTH match whole terms only, so one- and
+ *   two-letter queries don't expand to most of the vocabulary
+ * - Terms from title, description, location and skills share one dictionary
+ * - Multi-token queries are an AND across tokens; hits are ordered by createdAt desc
+ * - Kept current incrementally by JobService and rebuilt from MongoDB on startup
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+    private static final int MIN_PREFIX_LENGTH = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+    private final DocIdTable<String[]> docs = new DocIdTable<>();
+
+    private volatile boolean ready;
+
+    public JobSearchIndex(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        logger.info("Rebuilding job search index");
+        Query query = new Query(Criteria.where("isActive").is(true));
+        query.fields().include("title", "description", "location", "skills", "createdAt");
+
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            postings.clear();
+            docs.clear();
+
+            try (Stream<Job> jobs = mongoTemplate.stream(query, Job.class)) {
+                jobs.forEach(this::indexLocked);
+            }
+            ready = true;
+            logger.info("Job search index rebuilt with {} jobs and {} terms",
+                       docs.size(), postings.size());
+        } catch (RuntimeException ex) {
+            logger.error("Failed to rebuild job search index, falling back to database search", ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isSearchable(String searchTerm) {
+        return !tokenize(searchTerm).isEmpty();
+    }
+
+    /**
+     * Adds or replaces the job in the index. Inactive jobs are removed instead.
+     */
+    public void index(Job job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            if (Boolean.TRUE.equals(job.getIsActive())) {
+                indexLocked(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns one page of matching job ids, newest first, plus the total hit count.
+     */
+    public IndexPage search(String searchTerm, int offset, int limit) {
+        Set<String> queryTokens = new LinkedHashSet<>(tokenize(searchTerm));
+        if (queryTokens.isEmpty()) {
+            return new IndexPage(Collections.emptyList(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] matches = null;
+            for (String token : queryTokens) {
+                int[] tokenMatches = matchPrefix(token);
+                matches = matches == null ? tokenMatches : intersect(matches, tokenMatches);
+                if (matches.length == 0) {
+                    return new IndexPage(Collections.emptyList(), 0);
+                }
+            }
+            return docs.page(Arrays.stream(matches), offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                current.append(Character.toLowerCase(c));
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private void indexLocked(Job job) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.addAll(tokenize(job.getTitle()));
+        terms.addAll(tokenize(job.getDescription()));
+        terms.addAll(tokenize(job.getLocation()));
+        if (job.getSkills() != null) {
+            for (String skill : job.getSkills()) {
+                terms.addAll(tokenize(skill));
+            }
+        }
+
+        int docId = docs.add(job.getId(), job.getCreatedAt(), terms.toArray(new String[0]));
+
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> new PostingList()).add(docId);
+        }
+    }
+
+    private void removeLocked(String jobId) {
+        Integer docId = docs.docId(jobId);
+        if (docId == null) {
+            return;
+        }
+        for (String term : docs.postings(docId)) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                list.remove(docId);
+                if (list.size == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+        docs.release(docId);
+    }
+
+    /**
+     * Sorted doc ids of every term the token is a prefix of, or of the exact
+     * term when the token is too short to expand.
+     */
+    private int[] matchPrefix(String prefix) {
+        if (prefix.length() < MIN_PREFIX_LENGTH) {
+            PostingList list = postings.get(prefix);
+            return list == null ? new int[0] : Arrays.copyOf(list.docIds, list.size);
+        }
+        SortedMap<String, PostingList> range = postings.subMap(prefix, prefix + Character.MAX_VALUE);
+        if (range.isEmpty()) {
+            return new int[0];
+        }
+        if (range.size() == 1) {
+            PostingList list = range.values().iterator().next();
+            return Arrays.copyOf(list.docIds, list.size);
+        }
+        BitSet merged = new BitSet(docs.capacity());
+        for (PostingList list : range.values()) {
+            for (int i = 0; i < list.size; i++) {
+                merged.set(list.docIds[i]);
+            }
+        }
+        return merged.stream().toArray();
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * Sorted, duplicate-free list of doc ids for a single term.
+     */
+    private static final class PostingList {
+        private int[] docIds = new int[4];
+        private int size;
+
+        void add(int docId) {
+            int pos = Arrays.binarySearch(docIds, 0, size, docId);
+            if (pos >= 0) {
+                return;
+            }
+            pos = -pos - 1;
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+            }
+            System.arraycopy(docIds, pos, docIds, pos + 1, size - pos);
+            docIds[pos] = docId;
+            size++;
+        }
+
+        void remove(int docId) {
+            int pos = Arrays.binarySearch(docIds, 0, size, docId);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(docIds, pos + 1, docIds, pos, size - pos - 1);
+            size--;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.response.SuggestionResponse;
+import com.jobportal.model.Job;
+import com.jobportal.model.enums.SuggestionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory typeahead over the titles, skills and locations of active jobs.
+ *
+ * Design Decisions:
+ * - One trie per suggestion type; every node caches its top suggestions by
+ *   weight, so a lookup is a walk down the prefix and never touches MongoDB
+ * - Weight is the number of active jobs carrying the value
+ * - Values are also reachable from each word start ("java" finds "Senior Java Developer")
+ * - Job writes update only the trie paths of the values they touch; a startup
+ *   rebuild loads everything first and computes the cached tops once
+ */
+@Component
+public class JobSuggestionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSuggestionIndex.class);
+
+    private static final int TOP_K = 10;
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+    private static final Comparator<Suggestion> BY_WEIGHT = Comparator
+        .comparingInt((Suggestion s) -> s.weight).reversed()
+        .thenComparing(s -> s.normalized);
+
+    private final MongoTemplate mongoTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<SuggestionType, Node> roots = new EnumMap<>(SuggestionType.class);
+    private final Map<String, Suggestion> suggestionsByKey = new HashMap<>();
+    private final Map<String, List<Suggestion>> suggestionsByJobId = new HashMap<>();
+
+    public JobSuggestionIndex(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        resetLocked();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        logger.info("Rebuilding job suggestion index");
+        Query query = new Query(Criteria.where("isActive").is(true));
+        query.fields().include("title", "location", "skills");
+
+        lock.writeLock().lock();
+        try {
+            resetLocked();
+            try (Stream<Job> jobs = mongoTemplate.stream(query, Job.class)) {
+                jobs.forEach(job -> addJobLocked(job, false));
+            }
+            roots.values().forEach(JobSuggestionIndex::recomputeSubtree);
+            logger.info("Job suggestion index rebuilt with {} suggestions", suggestionsByKey.size());
+        } catch (RuntimeException ex) {
+            logger.error("Failed to rebuild job suggestion index", ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the job's values. Inactive jobs are removed instead.
+     */
+    public void index(Job job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeJobLocked(job.getId());
+            if (Boolean.TRUE.equals(job.getIsActive())) {
+                addJobLocked(job, true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            removeJobLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} suggestions for the prefix, heaviest first.
+     * A null type searches titles, skills and locations together.
+     */
+    public List<SuggestionResponse> suggest(String prefix, SuggestionType type, int limit) {
+        String normalized = normalize(prefix);
+        int max = Math.min(Math.max(limit, 1), TOP_K);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Suggestion> candidates = new ArrayList<>();
+            for (Map.Entry<SuggestionType, Node> root : roots.entrySet()) {
+                if (type != null && root.getKey() != type) {
+                    continue;
+                }
+                Node node = find(root.getValue(), normalized);
+                if (node != null) {
+                    Collections.addAll(candidates, node.top);
+                }
+            }
+            return candidates.stream()
+                .sorted(BY_WEIGHT)
+                .limit(max)
+                .map(s -> new SuggestionResponse(s.text, s.type, s.weight))
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void resetLocked() {
+        roots.clear();
+        for (SuggestionType type : SuggestionType.values()) {
+            roots.put(type, new Node());
+        }
+        suggestionsByKey.clear();
+        suggestionsByJobId.clear();
+    }
+
+    private void addJobLocked(Job job, boolean recompute) {
+        Map<String, Suggestion> contributed = new LinkedHashMap<>();
+        contribute(contributed, SuggestionType.TITLE, job.getTitle());
+        contribute(contributed, SuggestionType.LOCATION, job.getLocation());
+        if (job.getSkills() != null) {
+            for (String skill : job.getSkills()) {
+                contribute(contributed, SuggestionType.SKILL, skill);
+            }
+        }
+
+        for (Suggestion suggestion : contributed.values()) {
+            suggestion.weight++;
+            if (recompute) {
+                recomputePaths(suggestion);
+            }
+        }
+        suggestionsByJobId.put(job.getId(), new ArrayList<>(contributed.values()));
+    }
+
+    private void contribute(Map<String, Suggestion> contributed, SuggestionType type, String value) {
+        String normalized = normalize(value);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        String key = type.name() + ':' + normalized;
+        if (contributed.containsKey(key)) {
+            return;
+        }
+        Suggestion suggestion = suggestionsByKey.get(key);
+        if (suggestion == null) {
+            suggestion = new Suggestion(type, value.trim(), normalized);
+            suggestionsByKey.put(key, suggestion);
+            for (String trieKey : suggestion.trieKeys) {
+                Node node = roots.get(type);
+                for (int i = 0; i < trieKey.length(); i++) {
+                    node = node.children.computeIfAbsent(trieKey.charAt(i), c -> new Node());
+                }
+                if (!node.terminals.contains(suggestion)) {
+                    node.terminals.add(suggestion);
+                }
+            }
+        }
+        contributed.put(key, suggestion);
+    }
+
+    private void removeJobLocked(String jobId) {
+        List<Suggestion> contributed = suggestionsByJobId.remove(jobId);
+        if (contributed == null) {
+            return;
+        }
+        for (Suggestion suggestion : contributed) {
+            suggestion.weight--;
+            if (suggestion.weight <= 0) {
+                suggestionsByKey.remove(suggestion.type.name() + ':' + suggestion.normalized);
+                for (String trieKey : suggestion.trieKeys) {
+                    Node node = find(roots.get(suggestion.type), trieKey);
+                    if (node != null) {
+                        node.terminals.remove(suggestion);
+                    }
+                }
+            }
+            recomputePaths(suggestion);
+        }
+    }
+
+    /**
+     * Refreshes the cached tops along every path leading to the suggestion,
+     * deepest node first, pruning nodes that became empty.
+     */
+    private void recomputePaths(Suggestion suggestion) {
+        Node root = roots.get(suggestion.type);
+        for (String trieKey : suggestion.trieKeys) {
+            Node[] path = new Node[trieKey.length() + 1];
+            path[0] = root;
+            int depth = 0;
+            while (depth < trieKey.length()) {
+                Node next = path[depth].children.get(trieKey.charAt(depth));
+                if (next == null) {
+                    break;
+                }
+                path[++depth] = next;
+            }
+            for (int i = depth; i >= 0; i--) {
+                Node node = path[i];
+                recompute(node);
+                if (i > 0 && node.terminals.isEmpty() && node.children.isEmpty()) {
+                    path[i - 1].children.remove(trieKey.charAt(i - 1));
+                }
+            }
+        }
+    }
+
+    private static void recomputeSubtree(Node node) {
+        for (Node child : node.children.values()) {
+            recomputeSubtree(child);
+        }
+        recompute(node);
+    }
+
+    private static void recompute(Node node) {
+        List<Suggestion> candidates = new ArrayList<>(node.terminals);
+        for (Node child : node.children.values()) {
+            Collections.addAll(candidates, child.top);
+        }
+        if (candidates.isEmpty()) {
+            node.top = NO_SUGGESTIONS;
+            return;
+        }
+        node.top = candidates.stream()
+            .distinct()
+            .sorted(BY_WEIGHT)
+            .limit(TOP_K)
+            .toArray(Suggestion[]::new);
+    }
+
+    private static Node find(Node root, String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Suggestion> terminals = new ArrayList<>(1);
+        private Suggestion[] top = NO_SUGGESTIONS;
+    }
+
+    private static final class Suggestion {
+        private final SuggestionType type;
+        private final String text;
+        private final String normalized;
+        private final String[] trieKeys;
+        private int weight;
+
+        private Suggestion(SuggestionType type, String text, String normalized) {
+            this.type = type;
+            this.text = text;
+            this.normalized = normalized;
+
+            // The full value plus every suffix that starts at a word boundary
+            List<String> keys = new ArrayList<>();
+            keys.add(normalized);
+            for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                if (i + 1 < normalized.length()) {
+                    keys.add(normalized.substring(i + 1));
+                }
+            }
+            this.trieKeys = keys.toArray(new String[0]);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.jobportal.search;
+
+import com.jobportal.model.Job;
+import com.jobportal.model.enums.SkillMatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory bitset index from skill id to the active jobs that require it.
+ *
+ * Design Decisions:
+ * - Active jobs get compact int doc ids (reused on removal) so each skill's
+ *   posting set is a BitSet; ANY is an OR and ALL is an AND of those sets
+ * - Ordered by createdAt desc like the database listing
+ * - Jobs still missing skillIds (JobService backfills them on startup and
+ *   then rebuilds this index) are indexed under the ids their skills already
+ *   have in the dictionary; the index never writes to the dictionary
+ */
+@Component
+public class SkillBitsetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillBitsetIndex.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final SkillDictionary skillDictionary;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, BitSet> jobsBySkillId = new HashMap<>();
+    private final DocIdTable<List<Integer>> docs = new DocIdTable<>();
+
+    private volatile boolean ready;
+
+    public SkillBitsetIndex(MongoTemplate mongoTemplate, SkillDictionary skillDictionary) {
+        this.mongoTemplate = mongoTemplate;
+        this.skillDictionary = skillDictionary;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        logger.info("Rebuilding skill bitset index");
+        Query query = new Query(Criteria.where("isActive").is(true));
+        query.fields().include("skills", "skillIds", "createdAt");
+
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            jobsBySkillId.clear();
+            docs.clear();
+
+            try (Stream<Job> jobs = mongoTemplate.stream(query, Job.class)) {
+                jobs.forEach(job -> indexLocked(job, skillIdsOf(job)));
+            }
+            ready = true;
+            logger.info("Skill bitset index rebuilt with {} jobs and {} skills",
+                       docs.size(), jobsBySkillId.size());
+        } catch (RuntimeException ex) {
+            logger.error("Failed to rebuild skill bitset index, falling back to database filtering", ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Adds or replaces the job in the index. Inactive jobs are removed instead.
+     */
+    public void index(Job job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        // Resolved before taking the lock, since the dictionary may read from the database
+        List<Integer> skillIds = skillIdsOf(job);
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            if (Boolean.TRUE.equals(job.getIsActive())) {
+                indexLocked(job, skillIds);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns one page of job ids requiring any/all of the skills, newest first.
+     */
+    public IndexPage match(List<Integer> skillIds, SkillMatch mode, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = null;
+            for (Integer skillId : skillIds) {
+                BitSet jobs = jobsBySkillId.getOrDefault(skillId, new BitSet());
+                if (matches == null) {
+                    matches = (BitSet) jobs.clone();
+                } else if (mode == SkillMatch.ALL) {
+                    matches.and(jobs);
+                } else {
+                    matches.or(jobs);
+                }
+            }
+            if (matches == null) {
+                return new IndexPage(Collections.emptyList(), 0);
+            }
+            return docs.page(matches.stream(), offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Integer> skillIdsOf(Job job) {
+        if (job.getSkillIds() != null) {
+            return job.getSkillIds();
+        }
+        if (job.getSkills() == null) {
+            return Collections.emptyList();
+        }
+        // Lookup only; a name nobody has interned yet can't be filtered on anyway
+        List<Integer> skillIds = new ArrayList<>(skillDictionary.lookupIds(job.getSkills()));
+        skillIds.remove(Integer.valueOf(SkillDictionary.UNKNOWN_SKILL_ID));
+        return skillIds;
+    }
+
+    private void indexLocked(Job job, List<Integer> skillIds) {
+        int docId = docs.add(job.getId(), job.getCreatedAt(), skillIds);
+        for (Integer skillId : skillIds) {
+            jobsBySkillId.computeIfAbsent(skillId, id -> new BitSet()).set(docId);
+        }
+    }
+
+    private void removeLocked(String jobId) {
+        Integer docId = docs.docId(jobId);
+        if (docId == null) {
+            return;
+        }
+        for (Integer skillId : docs.postings(docId)) {
+            BitSet jobs = jobsBySkillId.get(skillId);
+            if (jobs != null) {
+                jobs.clear(docId);
+                if (jobs.isEmpty()) {
+                    jobsBySkillId.remove(skillId);
+                }
+            }
+        }
+        docs.release(docId);
+    }
+}
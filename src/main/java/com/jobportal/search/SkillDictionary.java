@@ -0,0 +1,143 @@
+package com.jobportal.search;
+
+import com.jobportal.model.Skill;
+import com.jobportal.repository.SkillRepository;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical skill dictionary mapping normalized skill names to small integer ids.
+ *
+ * Design Decisions:
+ * - "Java", "java " and "JAVA" normalize to the same name and the same id
+ * - Ids are allocated from a counter document and persisted in the skills
+ *   collection, so they are stable across restarts
+ * - Reads are served from an in-memory map; only unseen names touch MongoDB
+ */
+@Component
+public class SkillDictionary {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillDictionary.class);
+
+    /** Id returned for names that are not in the dictionary; no job carries it. */
+    public static final int UNKNOWN_SKILL_ID = -1;
+
+    private static final String COUNTERS_COLLECTION = "counters";
+    private static final String SKILL_COUNTER = "skills";
+
+    private final SkillRepository skillRepository;
+    private final MongoTemplate mongoTemplate;
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    public SkillDictionary(SkillRepository skillRepository, MongoTemplate mongoTemplate) {
+        this.skillRepository = skillRepository;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public static String normalize(String skill) {
+        if (skill == null) {
+            return "";
+        }
+        return skill.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Returns the distinct ids for the given skills, adding unseen names to the dictionary.
+     */
+    public List<Integer> internAll(List<String> skills) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                String name = normalize(skill);
+                if (!name.isEmpty()) {
+                    ids.add(intern(name, skill.trim()));
+                }
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * Returns the distinct ids for the given skills without creating entries;
+     * unknown names map to {@link #UNKNOWN_SKILL_ID}.
+     */
+    public List<Integer> lookupIds(List<String> skills) {
+        ensureLoaded();
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (String skill : skills) {
+            String name = normalize(skill);
+            if (!name.isEmpty()) {
+                ids.add(idsByName.getOrDefault(name, UNKNOWN_SKILL_ID));
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private int intern(String name, String displayName) {
+        ensureLoaded();
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = idsByName.get(name);
+            if (id != null) {
+                return id;
+            }
+            try {
+                Skill skill = skillRepository.insert(new Skill(nextId(), name, displayName));
+                id = skill.getId();
+            } catch (DuplicateKeyException ex) {
+                // Another instance interned the same name first
+                id = skillRepository.findByName(name)
+                    .map(Skill::getId)
+                    .orElseThrow(() -> ex);
+            }
+            idsByName.put(name, id);
+            logger.debug("Interned skill '{}' as {}", name, id);
+            return id;
+        }
+    }
+
+    private int nextId() {
+        Document counter = mongoTemplate.findAndModify(
+            new Query(Criteria.where("_id").is(SKILL_COUNTER)),
+            new Update().inc("seq", 1),
+            FindAndModifyOptions.options().upsert(true).returnNew(true),
+            Document.class,
+            COUNTERS_COLLECTION
+        );
+        return ((Number) counter.get("seq")).intValue();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                skillRepository.findAll().forEach(skill -> idsByName.put(skill.getName(), skill.getId()));
+                loaded = true;
+                logger.info("Loaded {} skills into the dictionary", idsByName.size());
+            }
+        }
+    }
+}
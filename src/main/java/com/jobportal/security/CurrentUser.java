@@ -1,5 +1,7 @@
 package com.jobportal.security;
 
+import com.jobportal.exception.UnauthorizedException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
@@ -9,5 +11,21 @@ public class CurrentUser {
     public String getUsername() {
         return SecurityContextHolder.getContext().getAuthentication().getName();
     }
-}
 
+    /**
+     * The caller verified by {@link JwtAuthenticationFilter}.
+     *
+     * @throws UnauthorizedException if the request carried no valid token
+     */
+    public JwtPrincipal getPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtPrincipal principal)) {
+            throw new UnauthorizedException("Authentication required");
+        }
+        return principal;
+    }
+
+    public String getUserId() {
+        return getPrincipal().getUserId();
+    }
+}
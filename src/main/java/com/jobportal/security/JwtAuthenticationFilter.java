@@ -1,5 +1,6 @@
 package com.jobportal.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,33 +24,52 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     
     private final JwtTokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedUsers revokedUsers;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, VerifiedTokenCache verifiedTokenCache, 
+                                   RevokedUsers revokedUsers) {
         this.tokenProvider = tokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revokedUsers = revokedUsers;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                    FilterChain filterChain) throws ServletException, IOException {
-        try {
-            String jwt = getJwtFromRequest(request);
+        String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                com.jobportal.model.enums.Role role = tokenProvider.getRoleFromToken(jwt);
+        if (StringUtils.hasText(jwt)) {
+            try {
+                // Verified once per token; controllers read the principal from the context
+                String key = VerifiedTokenCache.key(jwt);
+                JwtPrincipal principal = verifiedTokenCache.get(key);
+                if (principal == null) {
+                    long generation = verifiedTokenCache.currentGeneration();
+                    principal = tokenProvider.verifyToken(jwt);
+                    verifiedTokenCache.put(key, principal, generation);
+                }
+                // Checked on hits and misses alike, so a cached token cannot outlive a revocation
+                if (revokedUsers.isRevoked(principal)) {
+                    throw new JwtException("Token was issued before the user's sessions were revoked");
+                }
 
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(
-                        username, 
+                        principal, 
                         null, 
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()))
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + principal.getRole().name()))
                     );
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+            } catch (JwtException | IllegalArgumentException ex) {
+                logger.error("Invalid JWT token: {}", ex.getMessage());
+            } catch (RuntimeException ex) {
+                // Key lookup failed (keyring reload, database outage); carry on unauthenticated
+                // so public endpoints still answer and protected ones return 401, not 500
+                logger.error("Could not verify JWT token", ex);
             }
-        } catch (Exception ex) {
-            logger.error("Could not set user authentication in security context", ex);
         }
 
         filterChain.doFilter(request, response);
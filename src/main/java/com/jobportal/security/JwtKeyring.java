@@ -0,0 +1,232 @@
+package com.jobportal.security;
+
+import com.jobportal.model.SigningKey;
+import com.jobportal.repository.SigningKeyRepository;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Asymmetric JWT signing keys with scheduled rotation, shared by every
+ * instance through the jwt_signing_keys collection.
+ *
+ * Design Decisions:
+ * - Time is cut into rotation slots; each slot has one key whose kid is the
+ *   slot number, so instances create the same key and a lost insert race is harmless
+ * - The next slot's key is created prepublish-ms before the slot starts, so
+ *   it is in the JWKS before any token carries its kid
+ * - A key stays verifiable until the last token it signed expires
+ * - An immutable snapshot of the ring is swapped in on refresh; an unknown kid
+ *   triggers an early reload, at most once every few seconds
+ */
+@Component
+public class JwtKeyring {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyring.class);
+
+    private static final long UNKNOWN_KID_RELOAD_MS = 5000;
+
+    private final SigningKeyRepository signingKeyRepository;
+    private final String algorithm;
+    private final long rotationPeriodMs;
+    private final long prepublishMs;
+    private final long tokenLifetimeMs;
+    private volatile Ring ring;
+
+    public JwtKeyring(SigningKeyRepository signingKeyRepository,
+                      @Value("${jobportal.security.jwt.algorithm:ES256}") String algorithm,
+                      @Value("${jobportal.security.jwt.rotation-period-ms:604800000}") long rotationPeriodMs,
+                      @Value("${jobportal.security.jwt.prepublish-ms:3600000}") long prepublishMs,
+                      @Value("${spring.security.jwt.expiration}") long tokenLifetimeMs) {
+        if (!algorithm.equals("ES256") && !algorithm.equals("EdDSA")) {
+            throw new IllegalStateException("Unsupported JWT signing algorithm: " + algorithm);
+        }
+        if (prepublishMs >= rotationPeriodMs) {
+            throw new IllegalStateException("JWT key prepublish time must be shorter than the rotation period");
+        }
+        this.signingKeyRepository = signingKeyRepository;
+        this.algorithm = algorithm;
+        this.rotationPeriodMs = rotationPeriodMs;
+        this.prepublishMs = prepublishMs;
+        this.tokenLifetimeMs = tokenLifetimeMs;
+    }
+
+    /**
+     * Signs with the active key and writes its kid into the header.
+     */
+    public JwtBuilder signWith(JwtBuilder builder) {
+        Ring current = current();
+        return builder.header().keyId(current.signingKeyId).and()
+            .signWith(current.signingKey, current.signingAlgorithm);
+    }
+
+    /**
+     * Public key for the kid, or null if no live key has that id.
+     */
+    public PublicKey verificationKey(String keyId) {
+        Ring current = current();
+        PublicKey key = current.verificationKeys.get(keyId);
+        if (key == null && System.currentTimeMillis() - current.loadedAt >= UNKNOWN_KID_RELOAD_MS) {
+            key = reload().verificationKeys.get(keyId);
+        }
+        return key;
+    }
+
+    /**
+     * The live public keys as a JWK Set document.
+     */
+    public String jwks() {
+        return current().jwks;
+    }
+
+    @Scheduled(initialDelayString = "${jobportal.security.jwt.refresh-ms:60000}",
+               fixedDelayString = "${jobportal.security.jwt.refresh-ms:60000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            logger.error("Failed to refresh JWT keyring, keeping the current keys", ex);
+        }
+    }
+
+    private Ring current() {
+        Ring current = ring;
+        return current != null ? current : reload();
+    }
+
+    private synchronized Ring reload() {
+        long now = System.currentTimeMillis();
+        long slot = now / rotationPeriodMs;
+        ensureKey(slot, now);
+        long nextSlotStart = (slot + 1) * rotationPeriodMs;
+        if (now >= nextSlotStart - prepublishMs) {
+            ensureKey(slot + 1, nextSlotStart);
+        }
+
+        List<SigningKey> keys = signingKeyRepository.findByExpiresAtAfter(toLocal(now));
+        SigningKey active = null;
+        Map<String, PublicKey> verificationKeys = new HashMap<>();
+        List<String> jwks = new ArrayList<>();
+        for (SigningKey key : keys) {
+            PublicKey publicKey = decodePublic(key);
+            verificationKeys.put(key.getId(), publicKey);
+            jwks.add(Jwks.json(Jwks.builder().key(publicKey)
+                .id(key.getId())
+                .algorithm(key.getAlgorithm())
+                .publicKeyUse("sig")
+                .build()));
+            boolean usable = key.getAlgorithm().equals(algorithm) && !key.getActivatesAt().isAfter(toLocal(now));
+            if (usable && (active == null || key.getActivatesAt().isAfter(active.getActivatesAt()))) {
+                active = key;
+            }
+        }
+        if (active == null) {
+            throw new IllegalStateException("No active JWT signing key");
+        }
+
+        Ring loaded = new Ring(active.getId(), decodePrivate(active), signatureAlgorithm(active.getAlgorithm()),
+                               Collections.unmodifiableMap(verificationKeys),
+                               "{\"keys\":[" + String.join(",", jwks) + "]}", now);
+        if (ring == null || !ring.signingKeyId.equals(loaded.signingKeyId)) {
+            logger.info("JWT signing key {} active, {} keys published", loaded.signingKeyId, verificationKeys.size());
+        }
+        ring = loaded;
+        return loaded;
+    }
+
+    private void ensureKey(long slot, long activatesAt) {
+        String keyId = algorithm.toLowerCase(Locale.ROOT) + "-" + slot;
+        if (signingKeyRepository.existsById(keyId)) {
+            return;
+        }
+        KeyPair keyPair = algorithm.equals("EdDSA") 
+            ? Jwks.CRV.Ed25519.keyPair().build() 
+            : Jwts.SIG.ES256.keyPair().build();
+
+        SigningKey key = new SigningKey();
+        key.setId(keyId);
+        key.setAlgorithm(algorithm);
+        key.setKeyAlgorithm(keyPair.getPublic().getAlgorithm());
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        key.setActivatesAt(toLocal(activatesAt));
+        // Signs until the slot ends, then verifies until the last of its tokens expires
+        key.setExpiresAt(toLocal((slot + 1) * rotationPeriodMs + tokenLifetimeMs));
+        try {
+            signingKeyRepository.insert(key);
+            logger.info("Created JWT signing key {} activating at {}", keyId, key.getActivatesAt());
+        } catch (DuplicateKeyException ex) {
+            logger.debug("JWT signing key {} was created by another instance", keyId);
+        }
+    }
+
+    private static SignatureAlgorithm signatureAlgorithm(String algorithm) {
+        return algorithm.equals("EdDSA") ? Jwts.SIG.EdDSA : Jwts.SIG.ES256;
+    }
+
+    private static PublicKey decodePublic(SigningKey key) {
+        try {
+            return KeyFactory.getInstance(key.getKeyAlgorithm())
+                .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot decode public key of JWT signing key " + key.getId(), ex);
+        }
+    }
+
+    private static PrivateKey decodePrivate(SigningKey key) {
+        try {
+            return KeyFactory.getInstance(key.getKeyAlgorithm())
+                .generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(key.getPrivateKey())));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot decode private key of JWT signing key " + key.getId(), ex);
+        }
+    }
+
+    private static LocalDateTime toLocal(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static final class Ring {
+        private final String signingKeyId;
+        private final PrivateKey signingKey;
+        private final SignatureAlgorithm signingAlgorithm;
+        private final Map<String, PublicKey> verificationKeys;
+        private final String jwks;
+        private final long loadedAt;
+
+        private Ring(String signingKeyId, PrivateKey signingKey, SignatureAlgorithm signingAlgorithm,
+                     Map<String, PublicKey> verificationKeys, String jwks, long loadedAt) {
+            this.signingKeyId = signingKeyId;
+            this.signingKey = signingKey;
+            this.signingAlgorithm = signingAlgorithm;
+            this.verificationKeys = verificationKeys;
+            this.jwks = jwks;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
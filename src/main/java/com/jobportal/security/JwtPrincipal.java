@@ -0,0 +1,58 @@
+package com.jobportal.security;
+
+import com.jobportal.model.enums.Role;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * The verified contents of a JWT. Built once by {@link JwtTokenProvider#verifyToken}
+ * in the authentication filter and stored as the authentication principal, so
+ * controllers read the caller from the security context instead of re-parsing.
+ */
+public final class JwtPrincipal implements Principal {
+    
+    private final String userId;
+    private final String username;
+    private final Role role;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public JwtPrincipal(String userId, String username, Role role, Instant issuedAt, Instant expiresAt) {
+        this.userId = userId;
+        this.username = username;
+        this.role = role;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return "JwtPrincipal{userId=" + userId + ", username=" + username + ", role=" + role + "}";
+    }
+}
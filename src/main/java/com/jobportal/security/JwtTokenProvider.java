@@ -2,88 +2,102 @@ package com.jobportal.security;
 
 import com.jobportal.model.enums.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PublicKey;
 import java.util.Date;
 
+/**
+ * Issues and verifies JWTs. Tokens are signed with the keyring's active
+ * asymmetric key and verified by the kid in their header; the parser is built
+ * once and is thread-safe, so every request shares it.
+ *
+ * HMAC tokens issued before the switch carry no kid and are still accepted
+ * with the shared secret while accept-legacy-hmac is on, so the move does not
+ * log anyone out.
+ */
 @Component
 public class JwtTokenProvider {
     
-    private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
-    
-    @Value("${spring.security.jwt.secret}")
-    private String jwtSecret;
-    
-    @Value("${spring.security.jwt.expiration}")
-    private long jwtExpirationInMs;
+    private final JwtKeyring keyring;
+    private final SecretKey legacySigningKey;
+    private final JwtParser jwtParser;
+    private final long jwtExpirationInMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    public JwtTokenProvider(JwtKeyring keyring,
+                            @Value("${spring.security.jwt.secret}") String jwtSecret,
+                            @Value("${spring.security.jwt.expiration}") long jwtExpirationInMs,
+                            @Value("${jobportal.security.jwt.accept-legacy-hmac:true}") boolean acceptLegacyHmac) {
+        this.keyring = keyring;
+        this.legacySigningKey = acceptLegacyHmac 
+            ? Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)) 
+            : null;
+        this.jwtParser = Jwts.parser().keyLocator(new KeyLocator()).build();
+        this.jwtExpirationInMs = jwtExpirationInMs;
     }
 
     public String generateToken(String userId, String username, Role role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
 
-        return Jwts.builder()
+        return keyring.signWith(Jwts.builder()
                 .subject(username)
                 .claim("userId", userId)
                 .claim("role", role.name())
                 .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .expiration(expiryDate))
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return claims.getSubject();
-    }
-
-    public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return claims.get("userId", String.class);
-    }
-
-    public Role getRoleFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verifies the signature and expiry once and returns everything the request needs.
+     *
+     * @throws JwtException if the token is invalid, expired or lacks the userId/role/iat claims
+     */
+    public JwtPrincipal verifyToken(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
         
+        String userId = claims.get("userId", String.class);
         String roleStr = claims.get("role", String.class);
-        return Role.valueOf(roleStr);
+        if (userId == null || roleStr == null || claims.getIssuedAt() == null || claims.getExpiration() == null) {
+            throw new JwtException("Token is missing required claims");
+        }
+        Role role;
+        try {
+            role = Role.valueOf(roleStr);
+        } catch (IllegalArgumentException ex) {
+            throw new JwtException("Token has an unknown role: " + roleStr);
+        }
+        return new JwtPrincipal(userId, claims.getSubject(), role, 
+                                claims.getIssuedAt().toInstant(), claims.getExpiration().toInstant());
     }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token);
-            return true;
-        } catch (Exception ex) {
-            logger.error("Invalid JWT token: {}", ex.getMessage());
-            return false;
+    private final class KeyLocator extends LocatorAdapter<Key> {
+        @Override
+        protected Key locate(JwsHeader header) {
+            String keyId = header.getKeyId();
+            if (keyId == null) {
+                // hmacShaKeyFor picked HS256/384/512 from the secret's length, so accept the whole family
+                if (legacySigningKey != null && header.getAlgorithm() != null && header.getAlgorithm().startsWith("HS")) {
+                    return legacySigningKey;
+                }
+                throw new JwtException("Token has no key id");
+            }
+            PublicKey key = keyring.verificationKey(keyId);
+            if (key == null) {
+                throw new JwtException("Token signed with unknown key: " + keyId);
+            }
+            return key;
         }
     }
 }
-
@@ -0,0 +1,237 @@
+package com.jobportal.security;
+
+import com.jobportal.dto.response.ThrottleKeyResponse;
+import com.jobportal.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket limits on login attempts per client IP and per username,
+ * checked before any database lookup or password hashing.
+ *
+ * Design Decisions:
+ * - One bucket per key in a ConcurrentHashMap, each with its own lock, so
+ *   attempts for different keys never contend
+ * - A bucket that has refilled to capacity is indistinguishable from no
+ *   bucket, so those are the ones purged: periodically, and within
+ *   full-check-interval-ms once a map reaches max-entries. Purging only ever
+ *   runs on the scheduler, never on a login request. Throttled keys are never
+ *   dropped to make room
+ * - While a map is full, new keys all draw from one shared overflow bucket
+ *   with a single key's budget. A run over more distinct usernames than
+ *   max-entries is throttled as a whole instead of slipping through untracked,
+ *   and known keys keep their own buckets
+ * - The IP bucket is checked first; the username bucket is only drawn from
+ *   when the IP still has tokens
+ * - Registrations draw from the same IP bucket, since each one also costs a
+ *   password hash on the shared hasher pool
+ * - Rejections are counted per key for the admin hot-keys view and in Micrometer
+ */
+@Component
+public class LoginThrottle {
+
+    private final Limiter ipLimiter;
+    private final Limiter usernameLimiter;
+    private final boolean trustForwardedFor;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${jobportal.security.login-throttle.ip.capacity:20}") int ipCapacity,
+                         @Value("${jobportal.security.login-throttle.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                         @Value("${jobportal.security.login-throttle.username.capacity:5}") int usernameCapacity,
+                         @Value("${jobportal.security.login-throttle.username.refill-per-minute:5}") int usernameRefillPerMinute,
+                         @Value("${jobportal.security.login-throttle.max-entries:100000}") int maxEntries,
+                         @Value("${jobportal.security.login-throttle.trust-forwarded-for:false}") boolean trustForwardedFor) {
+        this.ipLimiter = new Limiter("ip", ipCapacity, ipRefillPerMinute, maxEntries, meterRegistry);
+        this.usernameLimiter = new Limiter("username", usernameCapacity, usernameRefillPerMinute, maxEntries, meterRegistry);
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    /**
+     * Takes one attempt from the client's IP and username buckets.
+     *
+     * @throws TooManyRequestsException if either bucket is empty
+     */
+    public void acquire(String usernameOrEmail, HttpServletRequest request) {
+        long now = System.nanoTime();
+        long waitNanos = ipLimiter.tryAcquire(clientIp(request), now);
+        if (waitNanos == 0 && usernameOrEmail != null) {
+            waitNanos = usernameLimiter.tryAcquire(usernameOrEmail.trim().toLowerCase(Locale.ROOT), now);
+        }
+        rejectIfWaiting(waitNanos, "Too many login attempts, please retry later");
+    }
+
+    /**
+     * Takes one attempt from the client's IP bucket only.
+     *
+     * @throws TooManyRequestsException if the bucket is empty
+     */
+    public void acquireByIp(HttpServletRequest request) {
+        rejectIfWaiting(ipLimiter.tryAcquire(clientIp(request), System.nanoTime()), 
+                        "Too many attempts, please retry later");
+    }
+
+    private static void rejectIfWaiting(long waitNanos, String message) {
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException(message,
+                                               Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+        }
+    }
+
+    /**
+     * Keys with the most rejected attempts, then the fewest tokens left.
+     */
+    public List<ThrottleKeyResponse> hotKeys(int limit) {
+        long now = System.nanoTime();
+        List<ThrottleKeyResponse> keys = new ArrayList<>();
+        ipLimiter.collectActive(now, keys);
+        usernameLimiter.collectActive(now, keys);
+        keys.sort(Comparator.comparingLong(ThrottleKeyResponse::getRejected).reversed()
+            .thenComparingInt(ThrottleKeyResponse::getAvailableTokens));
+        return keys.size() > limit ? new ArrayList<>(keys.subList(0, limit)) : keys;
+    }
+
+    @Scheduled(fixedDelayString = "${jobportal.security.login-throttle.purge-interval-ms:60000}")
+    public void purgeIdle() {
+        long now = System.nanoTime();
+        ipLimiter.purgeFull(now);
+        usernameLimiter.purgeFull(now);
+    }
+
+    /**
+     * Purges early any map that filled up since the last regular purge.
+     */
+    @Scheduled(fixedDelayString = "${jobportal.security.login-throttle.full-check-interval-ms:1000}")
+    public void purgeIfFull() {
+        long now = System.nanoTime();
+        if (ipLimiter.isFull()) {
+            ipLimiter.purgeFull(now);
+        }
+        if (usernameLimiter.isFull()) {
+            usernameLimiter.purgeFull(now);
+        }
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static final class Limiter {
+        private static final String OVERFLOW_KEY = "(overflow)";
+
+        private final String type;
+        private final int capacity;
+        private final double tokensPerNano;
+        private final int maxEntries;
+        private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+        private final Bucket overflow;
+        private final Counter rejections;
+
+        private Limiter(String type, int capacity, int refillPerMinute, int maxEntries, MeterRegistry meterRegistry) {
+            this.type = type;
+            this.capacity = capacity;
+            this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.maxEntries = maxEntries;
+            this.overflow = new Bucket(capacity, System.nanoTime());
+            this.rejections = Counter.builder("jobportal.login_throttle.rejected")
+                .tag("key", type)
+                .description("Login attempts rejected by the throttle")
+                .register(meterRegistry);
+            meterRegistry.gauge("jobportal.login_throttle.buckets", Tags.of("key", type), buckets, Map::size);
+        }
+
+        /**
+         * Returns 0 when a token was taken, otherwise the nanoseconds until one is available.
+         */
+        private long tryAcquire(String key, long now) {
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                bucket = isFull() ? overflow : buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+            }
+            long waitNanos = bucket.tryAcquire(now, capacity, tokensPerNano);
+            if (waitNanos > 0) {
+                rejections.increment();
+            }
+            return waitNanos;
+        }
+
+        private boolean isFull() {
+            return buckets.size() >= maxEntries;
+        }
+
+        private void purgeFull(long now) {
+            buckets.values().removeIf(bucket -> bucket.isFull(now, capacity, tokensPerNano));
+        }
+
+        private void collectActive(long now, List<ThrottleKeyResponse> keys) {
+            buckets.forEach((key, bucket) -> {
+                ThrottleKeyResponse snapshot = bucket.snapshot(type, key, now, capacity, tokensPerNano);
+                if (snapshot.getAvailableTokens() < capacity || snapshot.getRejected() > 0) {
+                    keys.add(snapshot);
+                }
+            });
+            ThrottleKeyResponse snapshot = overflow.snapshot(type, OVERFLOW_KEY, now, capacity, tokensPerNano);
+            if (snapshot.getAvailableTokens() < capacity || snapshot.getRejected() > 0) {
+                keys.add(snapshot);
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long updatedAt;
+        private long rejected;
+
+        private Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.updatedAt = now;
+        }
+
+        private synchronized long tryAcquire(long now, int capacity, double tokensPerNano) {
+            refill(now, capacity, tokensPerNano);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            rejected++;
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        private synchronized boolean isFull(long now, int capacity, double tokensPerNano) {
+            refill(now, capacity, tokensPerNano);
+            return tokens >= capacity;
+        }
+
+        private synchronized ThrottleKeyResponse snapshot(String type, String key, long now, 
+                                                          int capacity, double tokensPerNano) {
+            refill(now, capacity, tokensPerNano);
+            return new ThrottleKeyResponse(type, key, (int) tokens, capacity, rejected);
+        }
+
+        private void refill(long now, int capacity, double tokensPerNano) {
+            if (now > updatedAt) {
+                tokens = Math.min(capacity, tokens + (now - updatedAt) * tokensPerNano);
+                updatedAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.jobportal.security;
+
+import com.jobportal.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs BCrypt on a small dedicated pool so a login storm cannot take every
+ * request thread and CPU away from the rest of the API.
+ *
+ * Design Decisions:
+ * - Bounded queue with abort policy: when it is full, callers fail fast with
+ *   503 instead of piling up behind the hashes already waiting
+ * - Cost factor is configured, or read from a settings document shared by all
+ *   instances; the first instance to start without one calibrates it to the
+ *   largest cost whose hash stays within target-hash-ms, so instances on
+ *   different hardware never disagree about which hashes are current
+ * - Hashes with a different cost are re-hashed after a successful login, so
+ *   cost changes roll out as users sign in. Re-hashes run on their own single
+ *   low-priority thread with a small queue and are dropped when it is full,
+ *   so they never take a slot a login is waiting for
+ * - Queue depth is published as a Micrometer gauge
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 14;
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+    private static final String SETTINGS_COLLECTION = "settings";
+    private static final String BCRYPT_COST_SETTING = "bcrypt-cost";
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor rehashExecutor;
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final long timeoutMs;
+
+    public PasswordHasher(MeterRegistry meterRegistry, MongoTemplate mongoTemplate,
+                          @Value("${jobportal.security.password.bcrypt-strength:0}") int configuredStrength,
+                          @Value("${jobportal.security.password.target-hash-ms:250}") long targetHashMs,
+                          @Value("${jobportal.security.password.threads:0}") int threads,
+                          @Value("${jobportal.security.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${jobportal.security.password.rehash-queue-capacity:16}") int rehashQueueCapacity,
+                          @Value("${jobportal.security.password.timeout-ms:5000}") long timeoutMs) {
+        this.strength = configuredStrength > 0 ? configuredStrength : sharedStrength(mongoTemplate, targetHashMs);
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.timeoutMs = timeoutMs;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "password-hasher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        meterRegistry.gauge("jobportal.password_hasher.queue", queue, BlockingQueue::size);
+
+        this.rehashExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                                                     new ArrayBlockingQueue<>(rehashQueueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-rehasher");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+
+        logger.info("Password hashing uses BCrypt cost {} on {} threads", strength, poolSize);
+    }
+
+    /**
+     * Encoder with the configured cost, for Spring Security components that
+     * need a {@link PasswordEncoder}. Calls on it run on the caller's thread.
+     */
+    public PasswordEncoder encoder() {
+        return encoder;
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Whether the hash is BCrypt with a cost other than the shared one.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Hashes the password with the shared cost on the re-hash thread and hands
+     * the result to {@code onHashed}. Skipped when its queue is full; the next
+     * login tries again.
+     */
+    public void rehash(String rawPassword, Consumer<String> onHashed) {
+        try {
+            rehashExecutor.execute(() -> {
+                try {
+                    onHashed.accept(encoder.encode(rawPassword));
+                } catch (RuntimeException ex) {
+                    logger.error("Password rehash failed", ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            logger.debug("Password re-hash queue full, skipping rehash");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        rehashExecutor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            throw new ServiceUnavailableException("Too many sign-in requests, please retry shortly");
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new ServiceUnavailableException("Too many sign-in requests, please retry shortly");
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password check interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    /**
+     * The cost stored in the settings collection. When there is none yet this
+     * instance calibrates one and stores it; if another instance stored its own
+     * first, that one wins and every instance uses it.
+     */
+    private static int sharedStrength(MongoTemplate mongoTemplate, long targetHashMs) {
+        Query query = new Query(Criteria.where("_id").is(BCRYPT_COST_SETTING));
+        Document setting = mongoTemplate.findOne(query, Document.class, SETTINGS_COLLECTION);
+        if (setting == null) {
+            int calibrated = calibrate(targetHashMs);
+            Update update = new Update().setOnInsert("cost", calibrated).setOnInsert("calibratedAt", new Date());
+            try {
+                setting = mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), Document.class, SETTINGS_COLLECTION);
+            } catch (DuplicateKeyException ex) {
+                // Another instance inserted its calibration at the same moment
+                setting = mongoTemplate.findOne(query, Document.class, SETTINGS_COLLECTION);
+            }
+            logger.info("Calibrated BCrypt cost {}, shared cost is {}", calibrated, setting.get("cost"));
+        }
+        return ((Number) setting.get("cost")).intValue();
+    }
+
+    /**
+     * Times the minimum cost and extrapolates: every extra cost step doubles the work.
+     */
+    private static int calibrate(long targetHashMs) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        probe.encode("calibration"); // warm-up
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        double elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000.0);
+
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && elapsedMs * 2 <= targetHashMs) {
+            strength++;
+            elapsedMs *= 2;
+        }
+        return strength;
+    }
+}
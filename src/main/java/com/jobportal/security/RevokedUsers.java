@@ -0,0 +1,55 @@
+package com.jobportal.security;
+
+import com.jobportal.event.UserDeactivatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Users whose tokens issued up to a point in time must no longer authenticate.
+ *
+ * Design Decisions:
+ * - Tokens stay stateless; the filter checks every principal, cached or freshly
+ *   verified, against the user's revocation time
+ * - iat has second precision, so a token issued in the same second as the
+ *   revocation is treated as revoked
+ * - An entry is only needed until every token issued before it has expired,
+ *   so entries are dropped one token lifetime after the revocation
+ */
+@Component
+public class RevokedUsers {
+
+    private final Map<String, Instant> revokedAtByUserId = new ConcurrentHashMap<>();
+    private final long tokenLifetimeMs;
+
+    public RevokedUsers(@Value("${spring.security.jwt.expiration}") long tokenLifetimeMs) {
+        this.tokenLifetimeMs = tokenLifetimeMs;
+    }
+
+    public void revoke(String userId, Instant revokedAt) {
+        Instant second = revokedAt.truncatedTo(ChronoUnit.SECONDS);
+        revokedAtByUserId.merge(userId, second, (previous, next) -> previous.isAfter(next) ? previous : next);
+    }
+
+    public boolean isRevoked(JwtPrincipal principal) {
+        Instant revokedAt = revokedAtByUserId.get(principal.getUserId());
+        return revokedAt != null && !principal.getIssuedAt().isAfter(revokedAt);
+    }
+
+    @EventListener
+    public void onUserDeactivated(UserDeactivatedEvent event) {
+        revoke(event.getUserId(), Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${jobportal.security.revoked-users.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minusMillis(tokenLifetimeMs);
+        revokedAtByUserId.values().removeIf(revokedAt -> revokedAt.isBefore(cutoff));
+    }
+}
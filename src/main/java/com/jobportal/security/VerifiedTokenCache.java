@@ -0,0 +1,156 @@
+package com.jobportal.security;
+
+import com.jobportal.event.UserDeactivatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of verified JWTs, so a client reusing a bearer token skips
+ * signature verification and claim decoding after the first request.
+ *
+ * Design Decisions:
+ * - Keyed by the SHA-256 of the token; raw tokens are never held in memory
+ * - Split into independently locked LRU stripes by key hash, so concurrent
+ *   requests rarely contend on the same lock; each stripe holds an equal
+ *   share of max-entries
+ * - An entry expires at the token's own exp, or after max-ttl-ms if sooner
+ * - Evicting a user drops all of their entries and bumps a generation counter,
+ *   so a verification that raced with the eviction is not stored. Eviction
+ *   only frees memory; {@link RevokedUsers} is what stops the user's tokens
+ * - Hit/miss counters and the entry count are published as Micrometer metrics
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final int STRIPES = 16;
+
+    private final List<Map<String, Entry>> stripes;
+    private final AtomicLong generation = new AtomicLong();
+    private final long maxTtlMs;
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jobportal.security.token-cache.max-entries:10000}") int maxEntries,
+                              @Value("${jobportal.security.token-cache.max-ttl-ms:300000}") long maxTtlMs) {
+        this.maxTtlMs = maxTtlMs;
+        int entriesPerStripe = Math.max(1, maxEntries / STRIPES);
+        List<Map<String, Entry>> stripes = new ArrayList<>(STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.add(Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > entriesPerStripe;
+                }
+            }));
+        }
+        this.stripes = stripes;
+        this.hits = Counter.builder("jobportal.cache.verified_token")
+            .tag("result", "hit")
+            .description("Verified JWT cache lookups")
+            .register(meterRegistry);
+        this.misses = Counter.builder("jobportal.cache.verified_token")
+            .tag("result", "miss")
+            .description("Verified JWT cache lookups")
+            .register(meterRegistry);
+        meterRegistry.gauge("jobportal.cache.verified_token.size", this, VerifiedTokenCache::size);
+    }
+
+    public static String key(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Returns the cached principal, or null when absent or expired.
+     */
+    public JwtPrincipal get(String key) {
+        Map<String, Entry> stripe = stripe(key);
+        Entry entry = stripe.get(key);
+        if (entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+            stripe.remove(key, entry);
+            entry = null;
+        }
+        if (entry != null) {
+            hits.increment();
+            return entry.principal;
+        }
+        misses.increment();
+        return null;
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Stores a principal that was verified while {@code observedGeneration} was current.
+     */
+    public void put(String key, JwtPrincipal principal, long observedGeneration) {
+        long expiresAt = Math.min(principal.getExpiresAt().toEpochMilli(), System.currentTimeMillis() + maxTtlMs);
+        Map<String, Entry> stripe = stripe(key);
+        synchronized (stripe) {
+            if (observedGeneration == generation.get()) {
+                stripe.put(key, new Entry(principal, expiresAt));
+            }
+        }
+    }
+
+    /**
+     * Drops every cached token of the user.
+     */
+    public void evictUser(String userId) {
+        // Bumped before any stripe is scanned, so a put that missed the scan sees the new generation
+        generation.incrementAndGet();
+        for (Map<String, Entry> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.values().removeIf(entry -> entry.principal.getUserId().equals(userId));
+            }
+        }
+    }
+
+    private int size() {
+        int size = 0;
+        for (Map<String, Entry> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Map<String, Entry> stripe(String key) {
+        return stripes.get(Math.floorMod(key.hashCode(), STRIPES));
+    }
+
+    @EventListener
+    public void onUserDeactivated(UserDeactivatedEvent event) {
+        evictUser(event.getUserId());
+    }
+
+    private static final class Entry {
+        private final JwtPrincipal principal;
+        private final long expiresAt;
+
+        private Entry(JwtPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -2,25 +2,40 @@ package com.jobportal.service;
 
 import com.jobportal.dto.request.ApplicationRequest;
 import com.jobportal.dto.request.ApplicationStatusUpdateRequest;
+import com.jobportal.dto.request.BulkApplicationStatusUpdateRequest;
 import com.jobportal.dto.response.ApplicationResponse;
+import com.jobportal.dto.response.ApplicationSummaryResponse;
+import com.jobportal.dto.response.BulkUpdateResponse;
 import com.jobportal.dto.response.PageResponse;
+import com.jobportal.exception.ConflictException;
 import com.jobportal.exception.ResourceNotFoundException;
 import com.jobportal.exception.UnauthorizedException;
 import com.jobportal.model.Application;
+import com.jobportal.model.IdempotencyKey;
 import com.jobportal.model.Job;
 import com.jobportal.model.User;
 import com.jobportal.model.enums.ApplicationStatus;
+import com.jobportal.model.enums.Role;
 import com.jobportal.repository.ApplicationRepository;
+import com.jobportal.repository.IdempotencyKeyRepository;
+import com.jobportal.repository.KeysetCursor;
+import com.jobportal.repository.ReferenceResolver;
+import com.jobportal.storage.ResumeResource;
+import com.jobportal.storage.ResumeStorage;
+import com.mongodb.client.result.UpdateResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,22 +43,51 @@ public class ApplicationService {
     
     private static final Logger logger = LoggerFactory.getLogger(ApplicationService.class);
     
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 128;
+    
     private final ApplicationRepository applicationRepository;
     private final JobService jobService;
     private final UserService userService;
+    private final ReferenceResolver referenceResolver;
+    private final ResumeStorage resumeStorage;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
 
     public ApplicationService(ApplicationRepository applicationRepository, 
                              JobService jobService, 
-                             UserService userService) {
+                             UserService userService, 
+                             ReferenceResolver referenceResolver, 
+                             ResumeStorage resumeStorage, 
+                             IdempotencyKeyRepository idempotencyKeyRepository) {
         this.applicationRepository = applicationRepository;
         this.jobService = jobService;
         this.userService = userService;
+        this.referenceResolver = referenceResolver;
+        this.resumeStorage = resumeStorage;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
     }
 
-    @Transactional
-    public ApplicationResponse applyForJob(ApplicationRequest request, String candidateId) {
+    /**
+     * Applies for a job. With an idempotency key, a retry of a request that
+     * already succeeded returns the original application without writing again,
+     * including a retry that races the original or follows a crash before the
+     * key was recorded.
+     */
+    public ApplicationResponse applyForJob(ApplicationRequest request, String candidateId, String idempotencyKey) {
         logger.info("Candidate {} applying for job {}", candidateId, request.getJobId());
         
+        String scopedKey = null;
+        if (idempotencyKey != null) {
+            if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+                throw new IllegalArgumentException("Idempotency-Key must be 1 to " + 
+                                                   MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+            }
+            scopedKey = candidateId + ":" + idempotencyKey;
+            Optional<IdempotencyKey> previous = idempotencyKeyRepository.findById(scopedKey);
+            if (previous.isPresent()) {
+                return replay(previous.get(), request);
+            }
+        }
+        
         User candidate = userService.getUserEntity(candidateId);
         
         // Verify user is candidate
@@ -51,31 +95,82 @@ public class ApplicationService {
             throw new UnauthorizedException("Only candidates can apply for jobs");
         }
         
-        Job job = jobService.getJobEntity(request.getJobId());
+        // Existence and active state come from the cached apply fields
+        Job job = jobService.getApplicableJob(request.getJobId());
         
-        // Check if job is active
-        if (!job.getIsActive()) {
-            throw new IllegalArgumentException("Cannot apply to inactive job");
-        }
+        Application application = new Application(candidate, job, null, request.getCoverLetter());
+        application.setRecruiterId(jobService.getRecruiterId(job));
+        application.setStatus(ApplicationStatus.APPLIED);
         
-        // Check for duplicate application
-        if (applicationRepository.existsByCandidate_IdAndJob_Id(candidateId, request.getJobId())) {
-            throw new IllegalArgumentException("You have already applied for this job");
+        // Insert first: the unique_application index is the duplicate check,
+        // and a duplicate costs no resume write
+        boolean created = false;
+        try {
+            application = applicationRepository.insert(application);
+            created = true;
+            logger.info("Application created successfully with ID: {}", application.getId());
+        } catch (DuplicateKeyException ex) {
+            if (scopedKey == null) {
+                throw new IllegalArgumentException("You have already applied for this job");
+            }
+            // Same key: either a concurrent retry recorded it meanwhile, or the
+            // original request stopped before recording it
+            Optional<IdempotencyKey> previous = idempotencyKeyRepository.findById(scopedKey);
+            if (previous.isPresent()) {
+                return replay(previous.get(), request);
+            }
+            application = applicationRepository.findByCandidateIdAndJobId(candidateId, request.getJobId())
+                .orElseThrow(() -> new IllegalArgumentException("You have already applied for this job"));
+            logger.info("Replaying application {} for repeated idempotency key", application.getId());
         }
         
-        Application application = new Application();
-        application.setCandidate(candidate);
-        application.setJob(job);
-        application.setResume(request.getResume());
-        application.setCoverLetter(request.getCoverLetter());
-        application.setStatus(ApplicationStatus.APPLIED);
+        if (application.getResumeFileId() == null && application.getResume() == null) {
+            application = attachResume(application, candidateId, request.getResume(), created);
+        }
         
-        application = applicationRepository.save(application);
-        logger.info("Application created successfully with ID: {}", application.getId());
+        if (scopedKey != null) {
+            try {
+                idempotencyKeyRepository.insert(new IdempotencyKey(scopedKey, request.getJobId(), application.getId()));
+            } catch (DuplicateKeyException ex) {
+                logger.debug("Idempotency key already recorded for application {}", application.getId());
+            }
+        }
         
         return mapToResponse(application);
     }
 
+    /**
+     * Stores the resume in GridFS and attaches it to the application, which then
+     * only keeps the file id. An application this request created is removed
+     * again if the resume can't be stored, so a failed request leaves nothing behind.
+     */
+    private Application attachResume(Application application, String candidateId, String resume, boolean created) {
+        String resumeFileId;
+        try {
+            resumeFileId = resumeStorage.storeText(candidateId, resume);
+        } catch (RuntimeException ex) {
+            if (created) {
+                applicationRepository.deleteById(application.getId());
+            }
+            throw ex;
+        }
+        if (applicationRepository.attachResume(application.getId(), resumeFileId)) {
+            application.setResumeFileId(resumeFileId);
+            return application;
+        }
+        // A concurrent retry attached its copy first
+        resumeStorage.delete(resumeFileId);
+        return applicationRepository.findById(application.getId()).orElse(application);
+    }
+
+    private ApplicationResponse replay(IdempotencyKey previous, ApplicationRequest request) {
+        if (!previous.getJobId().equals(request.getJobId())) {
+            throw new IllegalArgumentException("Idempotency-Key was already used for a different job");
+        }
+        logger.info("Replaying application {} for repeated idempotency key", previous.getApplicationId());
+        return getApplicationById(previous.getApplicationId());
+    }
+
     public ApplicationResponse getApplicationById(String id) {
         logger.debug("Fetching application by ID: {}", id);
         Application application = applicationRepository.findById(id)
@@ -83,53 +178,75 @@ public class ApplicationService {
         return mapToResponse(application);
     }
 
-    public PageResponse<ApplicationResponse> getApplicationsByCandidate(String candidateId, int page, int size) {
+    public PageResponse<ApplicationSummaryResponse> getApplicationsByCandidate(String candidateId, int page, int size) {
         logger.debug("Fetching applications for candidate: {}", candidateId);
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by("appliedAt").descending());
-        Page<Application> applicationPage = applicationRepository.findByCandidate_Id(candidateId, pageable);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("appliedAt").descending()
+            .and(Sort.by("id").descending()));
+        Page<Application> applicationPage = applicationRepository.findByCandidateId(candidateId, pageable);
         
-        List<ApplicationResponse> content = applicationPage.getContent().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<ApplicationSummaryResponse> content = mapToSummaries(applicationPage.getContent());
         
-        return new PageResponse<>(
+        PageResponse<ApplicationSummaryResponse> response = new PageResponse<>(
             content,
             applicationPage.getNumber(),
             applicationPage.getSize(),
             applicationPage.getTotalElements()
         );
+        
+        if (applicationPage.hasNext()) {
+            response.setNextCursor(cursorAfter(applicationPage.getContent()));
+        }
+        return response;
+    }
+
+    public PageResponse<ApplicationSummaryResponse> getApplicationsByCandidateAfter(String candidateId, String cursor, int size) {
+        logger.debug("Fetching applications for candidate {} after cursor", candidateId);
+        
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        List<Application> applications = applicationRepository.findByCandidateAfter(candidateId, keysetCursor, size + 1);
+        return toKeysetPage(applications, size, keysetCursor == null);
     }
 
-    public PageResponse<ApplicationResponse> getApplicationsByJob(String jobId, int page, int size) {
+    public PageResponse<ApplicationSummaryResponse> getApplicationsByJob(String jobId, int page, int size) {
         logger.debug("Fetching applications for job: {}", jobId);
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by("appliedAt").descending());
-        Page<Application> applicationPage = applicationRepository.findByJob_Id(jobId, pageable);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("appliedAt").descending()
+            .and(Sort.by("id").descending()));
+        Page<Application> applicationPage = applicationRepository.findByJobId(jobId, pageable);
         
-        List<ApplicationResponse> content = applicationPage.getContent().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<ApplicationSummaryResponse> content = mapToSummaries(applicationPage.getContent());
         
-        return new PageResponse<>(
+        PageResponse<ApplicationSummaryResponse> response = new PageResponse<>(
             content,
             applicationPage.getNumber(),
             applicationPage.getSize(),
             applicationPage.getTotalElements()
         );
+        
+        if (applicationPage.hasNext()) {
+            response.setNextCursor(cursorAfter(applicationPage.getContent()));
+        }
+        return response;
+    }
+
+    public PageResponse<ApplicationSummaryResponse> getApplicationsByJobAfter(String jobId, String cursor, int size) {
+        logger.debug("Fetching applications for job {} after cursor", jobId);
+        
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        List<Application> applications = applicationRepository.findByJobAfter(jobId, keysetCursor, size + 1);
+        return toKeysetPage(applications, size, keysetCursor == null);
     }
 
-    public PageResponse<ApplicationResponse> getApplicationsByJobAndStatus(String jobId, 
+    public PageResponse<ApplicationSummaryResponse> getApplicationsByJobAndStatus(String jobId, 
                                                                           ApplicationStatus status, 
                                                                           int page, int size) {
         logger.debug("Fetching applications for job: {} with status: {}", jobId, status);
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("appliedAt").descending());
-        Page<Application> applicationPage = applicationRepository.findByJob_IdAndStatus(jobId, status, pageable);
+        Page<Application> applicationPage = applicationRepository.findByJobIdAndStatus(jobId, status, pageable);
         
-        List<ApplicationResponse> content = applicationPage.getContent().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<ApplicationSummaryResponse> content = mapToSummaries(applicationPage.getContent());
         
         return new PageResponse<>(
             content,
@@ -139,50 +256,238 @@ public class ApplicationService {
         );
     }
 
-    @Transactional
-    public ApplicationResponse updateApplicationStatus(String applicationId, 
-                                                      ApplicationStatusUpdateRequest request, 
-                                                      String userId) {
-        logger.info("Updating application {} status to {} by user {}", 
-                   applicationId, request.getStatus(), userId);
+    /**
+     * Opens the application's resume for the candidate who applied, the recruiter
+     * who owns the job, or an admin.
+     */
+    public ResumeResource getResume(String applicationId, String userId) {
+        logger.debug("Fetching resume of application {} for user {}", applicationId, userId);
         
         Application application = applicationRepository.findById(applicationId)
             .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + applicationId));
         
-        User user = userService.getUserEntity(userId);
+        String candidateId = application.getCandidateId() != null
+            ? application.getCandidateId()
+            : application.getCandidate().getId();
+        if (!userId.equals(candidateId)) {
+            User user = userService.getUserEntity(userId);
+            Job job = application.getJobId() != null
+                ? jobService.getJobEntity(application.getJobId())
+                : application.getJob();
+            if (user.getRole() != com.jobportal.model.enums.Role.ADMIN && 
+                !userId.equals(jobService.getRecruiterId(job))) {
+                throw new UnauthorizedException("You don't have permission to view this resume");
+            }
+        }
+        
+        if (application.getResumeFileId() == null && application.getResume() != null) {
+            return resumeStorage.inline(candidateId, application.getResume());
+        }
+        return resumeStorage.open(application.getResumeFileId())
+            .orElseThrow(() -> new ResourceNotFoundException("Resume not found for application: " + applicationId));
+    }
+
+    public ApplicationResponse updateApplicationStatus(String applicationId, 
+                                                      ApplicationStatusUpdateRequest request, 
+                                                      String userId, Role role) {
+        logger.info("Updating application {} status to {} by user {}", 
+                   applicationId, request.getStatus(), userId);
         
-        // Verify user is recruiter/admin and owns the job
-        Job job = application.getJob();
-        if (user.getRole() != com.jobportal.model.enums.Role.ADMIN && 
-            !job.getPostedBy().getId().equals(userId)) {
+        if (role != Role.ADMIN && role != Role.RECRUITER) {
             throw new UnauthorizedException("You don't have permission to update this application");
         }
         
-        application.setStatus(request.getStatus());
-        application.setNotes(request.getNotes());
-        application.setReviewedAt(java.time.LocalDateTime.now());
+        ApplicationStatus target = request.getStatus();
+        Set<ApplicationStatus> fromStatuses;
+        if (request.getExpectedStatus() != null) {
+            if (!request.getExpectedStatus().canTransitionTo(target)) {
+                throw new IllegalArgumentException("Cannot move an application from " + 
+                                                   request.getExpectedStatus() + " to " + target);
+            }
+            fromStatuses = EnumSet.of(request.getExpectedStatus());
+        } else {
+            fromStatuses = ApplicationStatus.previousStatusesOf(target);
+            if (fromStatuses.isEmpty()) {
+                throw new IllegalArgumentException("Cannot move an application to " + target);
+            }
+        }
         
-        application = applicationRepository.save(application);
-        logger.info("Application status updated successfully: {}", applicationId);
+        // Admins may update any application; recruiters only those on their own jobs
+        String recruiterId = role == Role.ADMIN ? null : userId;
+        Application application = applicationRepository.transitionStatus(
+            applicationId, recruiterId, fromStatuses, request.getVersion(), target, request.getNotes());
+        if (application == null && recruiterId != null && backfillRecruiterSnapshot(applicationId, recruiterId)) {
+            application = applicationRepository.transitionStatus(
+                applicationId, recruiterId, fromStatuses, request.getVersion(), target, request.getNotes());
+        }
+        if (application == null) {
+            throw explainRejectedTransition(applicationId, recruiterId, fromStatuses, request);
+        }
         
+        logger.info("Application status updated successfully: {}", applicationId);
         return mapToResponse(application);
     }
 
+    /**
+     * Moves many applications of one job at once. Ownership is checked once for
+     * the job and the transition runs as a single updateMany restricted to legal
+     * predecessor statuses; applications in any other status are left alone.
+     */
+    public BulkUpdateResponse bulkUpdateApplicationStatus(String jobId, 
+                                                          BulkApplicationStatusUpdateRequest request, 
+                                                          String userId, Role role) {
+        logger.info("Bulk updating applications of job {} to {} by user {}", jobId, request.getStatus(), userId);
+        
+        if (role != Role.ADMIN && role != Role.RECRUITER) {
+            throw new UnauthorizedException("You don't have permission to update these applications");
+        }
+        if (role != Role.ADMIN && !userId.equals(jobService.getRecruiterId(jobId))) {
+            throw new UnauthorizedException("You don't have permission to update these applications");
+        }
+        
+        List<String> applicationIds = request.getApplicationIds();
+        boolean byIds = applicationIds != null && !applicationIds.isEmpty();
+        boolean byFilter = request.getFromStatus() != null || request.getAppliedBefore() != null;
+        if (byIds == byFilter) {
+            throw new IllegalArgumentException("Provide either applicationIds or a filter (fromStatus, appliedBefore)");
+        }
+        
+        ApplicationStatus target = request.getStatus();
+        Set<ApplicationStatus> fromStatuses = ApplicationStatus.previousStatusesOf(target);
+        if (request.getFromStatus() != null) {
+            if (!request.getFromStatus().canTransitionTo(target)) {
+                throw new IllegalArgumentException("Cannot move an application from " + 
+                                                   request.getFromStatus() + " to " + target);
+            }
+            fromStatuses = EnumSet.of(request.getFromStatus());
+        }
+        if (fromStatuses.isEmpty()) {
+            throw new IllegalArgumentException("Cannot move an application to " + target);
+        }
+        
+        UpdateResult result = applicationRepository.bulkTransitionStatus(
+            jobId, applicationIds, fromStatuses, request.getAppliedBefore(), target, request.getNotes());
+        logger.info("Bulk status update of job {} matched {} and modified {} applications", 
+                   jobId, result.getMatchedCount(), result.getModifiedCount());
+        
+        return new BulkUpdateResponse(byIds ? applicationIds.size() : null, 
+                                      result.getMatchedCount(), result.getModifiedCount());
+    }
+
+    /**
+     * Applications saved before the recruiter snapshot existed fail the ownership
+     * predicate until the snapshot sync reaches them. Copies the owner from the
+     * job and reports whether the caller owns it, so the transition can be retried.
+     */
+    private boolean backfillRecruiterSnapshot(String applicationId, String recruiterId) {
+        Application current = applicationRepository.findStateById(applicationId);
+        if (current == null || current.getRecruiterId() != null || current.getJobId() == null) {
+            return false;
+        }
+        String ownerId;
+        try {
+            ownerId = jobService.getRecruiterId(current.getJobId());
+        } catch (ResourceNotFoundException ex) {
+            return false;
+        }
+        applicationRepository.updateRecruiterSnapshot(current.getJobId(), ownerId);
+        return recruiterId.equals(ownerId);
+    }
+
+    /**
+     * Works out which condition of a rejected transition failed. Only runs on
+     * the failure path, so successful updates stay a single round trip.
+     */
+    private RuntimeException explainRejectedTransition(String applicationId, String recruiterId, 
+                                                       Set<ApplicationStatus> fromStatuses, 
+                                                       ApplicationStatusUpdateRequest request) {
+        Application current = applicationRepository.findStateById(applicationId);
+        if (current == null) {
+            return new ResourceNotFoundException("Application not found with id: " + applicationId);
+        }
+        if (recruiterId != null && !recruiterId.equals(current.getRecruiterId())) {
+            return new UnauthorizedException("You don't have permission to update this application");
+        }
+        if (!fromStatuses.contains(current.getStatus())) {
+            return new ConflictException("Application is " + current.getStatus() + 
+                                         " and cannot be moved to " + request.getStatus());
+        }
+        return new ConflictException("Application was modified concurrently; current version is " + 
+                                     current.getVersion());
+    }
+
+    private PageResponse<ApplicationSummaryResponse> toKeysetPage(List<Application> applications, int size, boolean first) {
+        boolean hasNext = applications.size() > size;
+        List<Application> pageApplications = hasNext ? applications.subList(0, size) : applications;
+        
+        List<ApplicationSummaryResponse> content = mapToSummaries(pageApplications);
+        
+        return PageResponse.keyset(content, size, first, hasNext ? cursorAfter(pageApplications) : null);
+    }
+
+    private String cursorAfter(List<Application> applications) {
+        Application last = applications.get(applications.size() - 1);
+        return KeysetCursor.encode(last.getAppliedAt(), last.getId());
+    }
+
+    private List<ApplicationSummaryResponse> mapToSummaries(List<Application> applications) {
+        // Rows whose snapshot is not repaired yet get their references in one batch per collection
+        List<Application> unsynced = applications.stream()
+            .filter(application -> application.getJobTitle() == null || application.getCandidateName() == null)
+            .collect(Collectors.toList());
+        referenceResolver.resolve(unsynced, Application::getCandidate, Application::setCandidate, User.class);
+        referenceResolver.resolve(unsynced, Application::getJob, Application::setJob, Job.class);
+        return applications.stream()
+            .map(this::mapToSummary)
+            .collect(Collectors.toList());
+    }
+
     private ApplicationResponse mapToResponse(Application application) {
         ApplicationResponse response = new ApplicationResponse();
         response.setId(application.getId());
-        response.setCandidateId(application.getCandidate().getId());
-        response.setCandidateName(application.getCandidate().getFirstName() + " " + 
-                                 application.getCandidate().getLastName());
-        response.setJobId(application.getJob().getId());
-        response.setJobTitle(application.getJob().getTitle());
+        if (application.getJobTitle() != null && application.getCandidateName() != null) {
+            response.setCandidateId(application.getCandidateId());
+            response.setCandidateName(application.getCandidateName());
+            response.setJobId(application.getJobId());
+            response.setJobTitle(application.getJobTitle());
+        } else {
+            // Snapshot not repaired yet; resolving the lazy references costs two lookups
+            response.setCandidateId(application.getCandidate().getId());
+            response.setCandidateName(application.getCandidate().getFirstName() + " " + 
+                                     application.getCandidate().getLastName());
+            response.setJobId(application.getJob().getId());
+            response.setJobTitle(application.getJob().getTitle());
+        }
         response.setStatus(application.getStatus());
         response.setResume(application.getResume());
+        response.setResumeFileId(application.getResumeFileId());
         response.setCoverLetter(application.getCoverLetter());
         response.setAppliedAt(application.getAppliedAt());
         response.setReviewedAt(application.getReviewedAt());
         response.setNotes(application.getNotes());
+        response.setVersion(application.getVersion());
         return response;
     }
-}
 
+    private ApplicationSummaryResponse mapToSummary(Application application) {
+        ApplicationSummaryResponse summary = new ApplicationSummaryResponse();
+        summary.setId(application.getId());
+        if (application.getJobTitle() != null && application.getCandidateName() != null) {
+            summary.setCandidateId(application.getCandidateId());
+            summary.setCandidateName(application.getCandidateName());
+            summary.setJobId(application.getJobId());
+            summary.setJobTitle(application.getJobTitle());
+        } else {
+            // Snapshot not repaired yet; the references were batch-resolved by mapToSummaries
+            summary.setCandidateId(application.getCandidate().getId());
+            summary.setCandidateName(application.getCandidate().getFirstName() + " " + 
+                                    application.getCandidate().getLastName());
+            summary.setJobId(application.getJob().getId());
+            summary.setJobTitle(application.getJob().getTitle());
+        }
+        summary.setStatus(application.getStatus());
+        summary.setAppliedAt(application.getAppliedAt());
+        summary.setReviewedAt(application.getReviewedAt());
+        return summary;
+    }
+}
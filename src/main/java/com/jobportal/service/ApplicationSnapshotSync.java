@@ -0,0 +1,177 @@
+package com.jobportal.service;
+
+import com.jobportal.event.CollectionChangeEvent;
+import com.jobportal.event.CollectionChangeListener;
+import com.jobportal.event.JobRetitledEvent;
+import com.jobportal.event.UserRenamedEvent;
+import com.jobportal.model.Job;
+import com.jobportal.model.User;
+import com.jobportal.repository.ApplicationRepository;
+import com.jobportal.repository.JobRepository;
+import com.jobportal.repository.UserRepository;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the candidate-name, job-title and recruiter-id snapshots on applications current.
+ *
+ * Design Decisions:
+ * - Rename events update the affected applications right away
+ * - A periodic repair pass heals missed events (crash between a write and its
+ *   event) within one interval. It only examines applications of jobs and
+ *   users updated since the previous pass: one aggregation joins each of them
+ *   to its job and candidate and merges back only the rows that are stale.
+ *   Startup and change-stream resyncs examine every application. The merge
+ *   needs MongoDB 4.4 or later
+ * - The startup pass also copies DBRef ids into candidateId/jobId on
+ *   applications saved before the snapshot fields existed
+ * - Applications written without snapshots (imports, direct database edits)
+ *   are filled in as soon as the change stream reports them
+ */
+@Component
+public class ApplicationSnapshotSync implements CollectionChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationSnapshotSync.class);
+    
+    // Overlap between passes, for writes timestamped by instances with slower clocks
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    // Start of the last successful pass; null makes the next pass examine everything
+    private volatile LocalDateTime lastRepair;
+
+    public ApplicationSnapshotSync(ApplicationRepository applicationRepository,
+                                   JobRepository jobRepository,
+                                   UserRepository userRepository) {
+        this.applicationRepository = applicationRepository;
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+    }
+
+    @EventListener
+    public void onUserRenamed(UserRenamedEvent event) {
+        long updated = applicationRepository.updateCandidateNameSnapshot(event.getUserId(), event.getDisplayName());
+        logger.debug("Updated candidate name on {} applications of user: {}", updated, event.getUserId());
+    }
+
+    @EventListener
+    public void onJobRetitled(JobRetitledEvent event) {
+        long updated = applicationRepository.updateJobTitleSnapshot(event.getJobId(), event.getTitle());
+        logger.debug("Updated job title on {} applications of job: {}", updated, event.getJobId());
+    }
+
+    @Override
+    public Set<String> collections() {
+        return Set.of("applications");
+    }
+
+    @Override
+    public void onChanges(List<CollectionChangeEvent> changes) {
+        boolean missingIds = false;
+        Set<String> jobIds = new HashSet<>();
+        Set<String> candidateIds = new HashSet<>();
+        for (CollectionChangeEvent change : changes) {
+            Document application = change.getFullDocument();
+            if (application == null || change.getOperation() == CollectionChangeEvent.Operation.UPDATE) {
+                continue;
+            }
+            missingIds |= application.get("jobId") == null || application.get("candidateId") == null;
+            if (application.get("jobTitle") == null || application.get("recruiterId") == null) {
+                addRefId(jobIds, application, "jobId", "job");
+            }
+            if (application.get("candidateName") == null) {
+                addRefId(candidateIds, application, "candidateId", "candidate");
+            }
+        }
+        if (missingIds) {
+            applicationRepository.backfillSnapshotIds();
+        }
+        for (String jobId : jobIds) {
+            jobRepository.findApplyFieldsById(jobId).ifPresent(job -> {
+                applicationRepository.updateJobTitleSnapshot(job.getId(), job.getTitle());
+                if (job.getPostedById() != null) {
+                    applicationRepository.updateRecruiterSnapshot(job.getId(), job.getPostedById());
+                }
+            });
+        }
+        for (String candidateId : candidateIds) {
+            userRepository.findById(candidateId).ifPresent(candidate -> 
+                applicationRepository.updateCandidateNameSnapshot(candidate.getId(), 
+                    candidate.getFirstName() + " " + candidate.getLastName()));
+        }
+    }
+
+    @Override
+    public void onResync() {
+        lastRepair = null;
+        repair();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        repair();
+    }
+
+    @Scheduled(initialDelayString = "${jobportal.applications.snapshot-sync.interval-ms:600000}",
+               fixedDelayString = "${jobportal.applications.snapshot-sync.interval-ms:600000}")
+    public void repair() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long ids = applicationRepository.backfillSnapshotIds();
+            if (ids > 0) {
+                logger.info("Application snapshot sync backfilled ids on {} applications", ids);
+            }
+            LocalDateTime started = LocalDateTime.now();
+            LocalDateTime since = lastRepair;
+            if (since == null) {
+                applicationRepository.repairStaleSnapshots(null, null);
+            } else {
+                since = since.minus(CLOCK_SKEW);
+                Set<String> jobIds = jobRepository.findIdsUpdatedSince(since).stream()
+                    .map(Job::getId)
+                    .collect(Collectors.toSet());
+                Set<String> candidateIds = userRepository.findIdsUpdatedSince(since).stream()
+                    .map(User::getId)
+                    .collect(Collectors.toSet());
+                if (!jobIds.isEmpty() || !candidateIds.isEmpty()) {
+                    applicationRepository.repairStaleSnapshots(jobIds, candidateIds);
+                }
+            }
+            lastRepair = started;
+        } catch (RuntimeException ex) {
+            logger.error("Application snapshot sync failed", ex);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private static void addRefId(Set<String> ids, Document application, String idField, String refField) {
+        Object id = application.get(idField);
+        if (id == null && application.get(refField) instanceof DBRef ref) {
+            id = ref.getId();
+        }
+        if (id != null) {
+            ids.add(id.toString());
+        }
+    }
+}
@@ -3,57 +3,58 @@ package com.jobportal.service;
 import com.jobportal.dto.request.LoginRequest;
 import com.jobportal.dto.request.RegisterRequest;
 import com.jobportal.dto.response.AuthResponse;
+import com.jobportal.exception.DuplicateFieldException;
 import com.jobportal.exception.ResourceNotFoundException;
 import com.jobportal.exception.UnauthorizedException;
 import com.jobportal.model.User;
 import com.jobportal.model.enums.Role;
 import com.jobportal.repository.UserRepository;
 import com.jobportal.security.JwtTokenProvider;
+import com.jobportal.security.PasswordHasher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
 public class AuthService {
     
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
     
+    private static final Pattern DUPLICATE_INDEX = Pattern.compile("index: (\\S+)");
+    
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, 
+    public AuthService(UserRepository userRepository, PasswordHasher passwordHasher, 
                       JwtTokenProvider jwtTokenProvider) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.jwtTokenProvider = jwtTokenProvider;
     }
 
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         logger.info("Registering new user with email: {}", request.getEmail());
         
-        // Check if user already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists");
-        }
-        
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("Username already exists");
-        }
-        
         // Create new user
         User user = new User();
         user.setEmail(request.getEmail());
         user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.hash(request.getPassword()));
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setRole(request.getRole());
         
-        user = userRepository.save(user);
+        // Single write: the case-insensitive unique indexes reject taken emails and usernames
+        try {
+            user = userRepository.insert(user);
+        } catch (DuplicateKeyException ex) {
+            throw duplicateField(ex);
+        }
         logger.info("User registered successfully with ID: {}", user.getId());
         
         // Generate JWT token
@@ -80,7 +81,7 @@ public class AuthService {
         ).orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
         
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             logger.warn("Invalid password attempt for user: {}", user.getUsername());
             throw new UnauthorizedException("Invalid credentials");
         }
@@ -90,6 +91,14 @@ public class AuthService {
             throw new UnauthorizedException("Account is deactivated");
         }
         
+        // Bring the stored hash to the shared cost while the plain password is at hand
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            String userId = user.getId();
+            String currentHash = user.getPassword();
+            passwordHasher.rehash(request.getPassword(), 
+                newHash -> userRepository.replacePasswordHash(userId, currentHash, newHash));
+        }
+        
         logger.info("User logged in successfully: {}", user.getUsername());
         
         // Generate JWT token
@@ -105,5 +114,20 @@ public class AuthService {
             user.getRole()
         );
     }
-}
 
+    /**
+     * Maps the violated unique index named in the duplicate key error to the field it guards.
+     */
+    private static IllegalArgumentException duplicateField(DuplicateKeyException ex) {
+        Matcher matcher = DUPLICATE_INDEX.matcher(String.valueOf(ex.getMessage()));
+        String index = matcher.find() ? matcher.group(1) : "";
+        if (index.equals(User.EMAIL_INDEX) || index.equals("email")) {
+            return new DuplicateFieldException("email", "Email already exists");
+        }
+        if (index.equals(User.USERNAME_INDEX) || index.equals("username")) {
+            return new DuplicateFieldException("username", "Username already exists");
+        }
+        logger.warn("Registration hit unexpected duplicate key on index: {}", index);
+        return new IllegalArgumentException("Account already exists");
+    }
+}
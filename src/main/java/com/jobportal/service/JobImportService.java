@@ -0,0 +1,210 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.dto.request.JobCreateRequest;
+import com.jobportal.dto.response.JobImportResult;
+import com.jobportal.model.Job;
+import com.jobportal.model.User;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of job postings from NDJSON (one {@link JobCreateRequest} per line).
+ *
+ * Design Decisions:
+ * - Lines are parsed and validated one at a time and written in unordered
+ *   bulk inserts of a fixed batch size, so memory is bounded by one batch and
+ *   one line regardless of upload size
+ * - One result line is streamed back per non-blank input line as soon as it
+ *   is known; a bad line never blocks the rest of its batch
+ * - Ids are assigned before the insert so created jobs can be reported and
+ *   indexed without reading them back
+ */
+@Service
+public class JobImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobImportService.class);
+
+    private final JobService jobService;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxLineChars;
+
+    public JobImportService(JobService jobService, MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+                            Validator validator,
+                            @Value("${jobportal.jobs.import.batch-size:500}") int batchSize,
+                            @Value("${jobportal.jobs.import.max-line-chars:20000}") int maxLineChars) {
+        this.jobService = jobService;
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxLineChars = maxLineChars;
+    }
+
+    /**
+     * Imports every line of {@code input} as a job posted by {@code recruiter}
+     * and writes one NDJSON {@link JobImportResult} per line to {@code output}.
+     */
+    public void importJobs(Reader input, Writer output, User recruiter) throws IOException {
+        logger.info("Starting bulk job import for user: {}", recruiter.getId());
+        BufferedReader reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+
+        List<Job> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        StringBuilder line = new StringBuilder();
+        long lineNumber = 0;
+        long created = 0;
+        long failed = 0;
+
+        long length;
+        while ((length = readLine(reader, line)) >= 0) {
+            lineNumber++;
+            if (line.toString().isBlank()) {
+                continue;
+            }
+            if (length > maxLineChars) {
+                failed++;
+                write(output, JobImportResult.failed(lineNumber, "Line exceeds " + maxLineChars + " characters"));
+                continue;
+            }
+
+            String error;
+            try {
+                JobCreateRequest request = objectMapper.readValue(line.toString(), JobCreateRequest.class);
+                error = validate(request);
+                if (error == null) {
+                    Job job = jobService.newJob(request, recruiter);
+                    job.setId(new ObjectId().toHexString());
+                    batch.add(job);
+                    batchLines.add(lineNumber);
+                }
+            } catch (JsonProcessingException ex) {
+                error = "Malformed JSON: " + ex.getOriginalMessage();
+            }
+            if (error != null) {
+                failed++;
+                write(output, JobImportResult.failed(lineNumber, error));
+            }
+
+            if (batch.size() == batchSize) {
+                long inserted = flush(batch, batchLines, output);
+                created += inserted;
+                failed += batch.size() - inserted;
+                batch.clear();
+                batchLines.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            long inserted = flush(batch, batchLines, output);
+            created += inserted;
+            failed += batch.size() - inserted;
+        }
+        output.flush();
+        logger.info("Bulk job import finished for user {}: {} created, {} failed", recruiter.getId(), created, failed);
+    }
+
+    /**
+     * Inserts the batch unordered and writes a result for each of its lines.
+     *
+     * @return the number of jobs inserted
+     */
+    private long flush(List<Job> batch, List<Long> batchLines, Writer output) throws IOException {
+        Map<Integer, String> errors = new HashMap<>();
+        try {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Job.class);
+            bulk.insert(batch);
+            bulk.execute();
+        } catch (BulkOperationException ex) {
+            for (BulkWriteError error : ex.getErrors()) {
+                errors.put(error.getIndex(), error.getMessage());
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Bulk job import batch of {} failed", batch.size(), ex);
+            for (int i = 0; i < batch.size(); i++) {
+                errors.put(i, "Write failed");
+            }
+        }
+
+        List<Job> inserted = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            String error = errors.get(i);
+            if (error == null) {
+                inserted.add(batch.get(i));
+                write(output, JobImportResult.created(batchLines.get(i), batch.get(i).getId()));
+            } else {
+                write(output, JobImportResult.failed(batchLines.get(i), error));
+            }
+        }
+        output.flush();
+
+        if (!inserted.isEmpty()) {
+            jobService.onJobsImported(inserted);
+        }
+        return inserted.size();
+    }
+
+    private String validate(JobCreateRequest request) {
+        Set<ConstraintViolation<JobCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private void write(Writer output, JobImportResult result) throws IOException {
+        output.write(objectMapper.writeValueAsString(result));
+        output.write('\n');
+    }
+
+    /**
+     * Reads one line into {@code line}, keeping at most {@code maxLineChars}
+     * characters of it.
+     *
+     * @return the full length of the line, or -1 at end of input
+     */
+    private long readLine(BufferedReader reader, StringBuilder line) throws IOException {
+        line.setLength(0);
+        long length = 0;
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (length++ < maxLineChars) {
+                line.append((char) c);
+            }
+        }
+        if (c == -1 && length == 0) {
+            return -1;
+        }
+        if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+            length--;
+        }
+        return length;
+    }
+}
@@ -1,42 +1,127 @@
 package com.jobportal.service;
 
+import com.jobportal.cache.ActiveJobCache;
+import com.jobportal.cache.FilterCountCache;
+import com.jobportal.cache.JobCatalogVersion;
+import com.jobportal.cache.JobFacetCache;
+import com.jobportal.cache.JobListingCache;
 import com.jobportal.dto.request.JobCreateRequest;
+import com.jobportal.dto.response.JobFacetsResponse;
 import com.jobportal.dto.response.JobResponse;
+import com.jobportal.dto.response.JobSummaryResponse;
 import com.jobportal.dto.response.PageResponse;
+import com.jobportal.dto.response.SuggestionResponse;
+import com.jobportal.event.CollectionChangeEvent;
+import com.jobportal.event.CollectionChangeListener;
+import com.jobportal.event.JobRetitledEvent;
+import com.jobportal.event.UserRenamedEvent;
 import com.jobportal.exception.ResourceNotFoundException;
 import com.jobportal.exception.UnauthorizedException;
 import com.jobportal.model.Job;
 import com.jobportal.model.User;
+import com.jobportal.model.enums.SkillMatch;
+import com.jobportal.model.enums.SuggestionType;
+import com.jobportal.repository.JobFacets;
 import com.jobportal.repository.JobRepository;
+import com.jobportal.repository.KeysetCursor;
+import com.jobportal.repository.ReferenceResolver;
+import com.jobportal.search.CityGazetteer;
+import com.jobportal.search.IndexPage;
+import com.jobportal.search.JobSearchIndex;
+import com.jobportal.search.JobSuggestionIndex;
+import com.jobportal.search.SkillBitsetIndex;
+import com.jobportal.search.SkillDictionary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
-public class JobService {
+public class JobService implements CollectionChangeListener {
     
     private static final Logger logger = LoggerFactory.getLogger(JobService.class);
+    private static final int MAX_APPLIED_WRITES = 10000;
     
     private final JobRepository jobRepository;
     private final UserService userService;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobSuggestionIndex jobSuggestionIndex;
+    private final SkillDictionary skillDictionary;
+    private final SkillBitsetIndex skillBitsetIndex;
+    private final CityGazetteer cityGazetteer;
+    private final FilterCountCache filterCountCache;
+    private final JobFacetCache jobFacetCache;
+    private final JobCatalogVersion jobCatalogVersion;
+    private final JobListingCache jobListingCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReferenceResolver referenceResolver;
+    private final ActiveJobCache activeJobCache;
+    private final MongoConverter mongoConverter;
+    // updatedAt of the writes this service already applied, by job id, so their change events are skipped
+    private final Map<String, LocalDateTime> appliedWrites = new ConcurrentHashMap<>();
 
-    public JobService(JobRepository jobRepository, UserService userService) {
+    public JobService(JobRepository jobRepository, UserService userService, 
+                     JobSearchIndex jobSearchIndex, JobSuggestionIndex jobSuggestionIndex, 
+                     SkillDictionary skillDictionary, SkillBitsetIndex skillBitsetIndex, 
+                     CityGazetteer cityGazetteer, FilterCountCache filterCountCache, 
+                     JobFacetCache jobFacetCache, JobCatalogVersion jobCatalogVersion, 
+                     JobListingCache jobListingCache, ApplicationEventPublisher eventPublisher, 
+                     ReferenceResolver referenceResolver, ActiveJobCache activeJobCache, 
+                     MongoConverter mongoConverter) {
         this.jobRepository = jobRepository;
         this.userService = userService;
+        this.jobSearchIndex = jobSearchIndex;
+        this.jobSuggestionIndex = jobSuggestionIndex;
+        this.skillDictionary = skillDictionary;
+        this.skillBitsetIndex = skillBitsetIndex;
+        this.cityGazetteer = cityGazetteer;
+        this.filterCountCache = filterCountCache;
+        this.jobFacetCache = jobFacetCache;
+        this.jobCatalogVersion = jobCatalogVersion;
+        this.jobListingCache = jobListingCache;
+        this.eventPublisher = eventPublisher;
+        this.referenceResolver = referenceResolver;
+        this.activeJobCache = activeJobCache;
+        this.mongoConverter = mongoConverter;
     }
 
     @Transactional
     public JobResponse createJob(JobCreateRequest request, String userId) {
         logger.info("Creating new job: {} by user: {}", request.getTitle(), userId);
         
+        User recruiter = getPostingUser(userId);
+        Job job = newJob(request, recruiter);
+        
+        job = jobRepository.save(job);
+        onJobSaved(job);
+        logger.info("Job created successfully with ID: {}", job.getId());
+        
+        return mapToResponse(job);
+    }
+
+    /**
+     * Loads the user and verifies they may post jobs.
+     */
+    public User getPostingUser(String userId) {
         User recruiter = userService.getUserEntity(userId);
         
         // Verify user is recruiter or admin
@@ -44,22 +129,40 @@ public class JobService {
             recruiter.getRole() != com.jobportal.model.enums.Role.ADMIN) {
             throw new UnauthorizedException("Only recruiters and admins can create jobs");
         }
-        
+        return recruiter;
+    }
+
+    /**
+     * Builds an unsaved job posted by the recruiter.
+     */
+    public Job newJob(JobCreateRequest request, User recruiter) {
         Job job = new Job();
         job.setTitle(request.getTitle());
         job.setDescription(request.getDescription());
         job.setLocation(request.getLocation());
+        job.setGeoLocation(cityGazetteer.locate(request.getLocation()).orElse(null));
         job.setSkills(request.getSkills());
+        job.setSkillIds(skillDictionary.internAll(request.getSkills()));
         job.setExperienceRequired(request.getExperienceRequired());
         job.setSalaryMin(request.getSalaryMin());
         job.setSalaryMax(request.getSalaryMax());
         job.setEmploymentType(request.getEmploymentType());
         job.setPostedBy(recruiter);
-        
-        job = jobRepository.save(job);
-        logger.info("Job created successfully with ID: {}", job.getId());
-        
-        return mapToResponse(job);
+        job.setPostedById(recruiter.getId());
+        job.setPostedByName(recruiter.getFirstName() + " " + recruiter.getLastName());
+        return job;
+    }
+
+    /**
+     * Brings the in-memory indexes up to date with a batch of inserted jobs,
+     * invalidating the cached listings once for the whole batch.
+     */
+    public void onJobsImported(List<Job> jobs) {
+        for (Job job : jobs) {
+            recordApplied(job);
+            indexJob(job);
+        }
+        invalidateCaches();
     }
 
     public JobResponse getJobById(String id) {
@@ -69,37 +172,84 @@ public class JobService {
         return mapToResponse(job);
     }
 
-    public PageResponse<JobResponse> getAllActiveJobs(int page, int size, String sortBy, String sortDir) {
+    public PageResponse<JobSummaryResponse> getAllActiveJobs(int page, int size, String sortBy, String sortDir) {
         logger.debug("Fetching all active jobs - page: {}, size: {}", page, size);
         
+        // Public, anonymous and hot: serve fully built pages until the catalog changes
+        String cacheKey = jobListingCache.currentKey(page, size, sortBy, sortDir);
+        PageResponse<JobSummaryResponse> cached = jobListingCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        
         Sort sort = sortDir.equalsIgnoreCase("desc") 
             ? Sort.by(sortBy).descending() 
             : Sort.by(sortBy).ascending();
         
+        boolean keysetSort = isKeysetSort(sortBy, sortDir);
+        if (keysetSort) {
+            sort = sort.and(Sort.by("id").descending());
+        }
+        
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<Job> jobPage = jobRepository.findByIsActiveTrue(pageable);
         
-        List<JobResponse> content = jobPage.getContent().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<JobSummaryResponse> content = mapToSummaries(jobPage.getContent());
         
-        return new PageResponse<>(
+        PageResponse<JobSummaryResponse> response = new PageResponse<>(
             content,
             jobPage.getNumber(),
             jobPage.getSize(),
             jobPage.getTotalElements()
         );
+        
+        // Hand out a cursor so clients can switch to keyset paging for deeper pages
+        if (keysetSort && jobPage.hasNext()) {
+            Job lastJob = jobPage.getContent().get(jobPage.getNumberOfElements() - 1);
+            response.setNextCursor(KeysetCursor.encode(lastJob.getCreatedAt(), lastJob.getId()));
+        }
+        
+        jobListingCache.put(cacheKey, response);
+        return response;
+    }
+
+    public PageResponse<JobSummaryResponse> getActiveJobsAfter(String cursor, int size, String sortBy, String sortDir) {
+        logger.debug("Fetching active jobs after cursor - size: {}", size);
+        
+        if (!isKeysetSort(sortBy, sortDir)) {
+            throw new IllegalArgumentException("Cursor pagination is only supported for createdAt desc");
+        }
+        
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        List<Job> jobs = jobRepository.findActiveJobsAfter(keysetCursor, size + 1);
+        
+        boolean hasNext = jobs.size() > size;
+        List<Job> pageJobs = hasNext ? jobs.subList(0, size) : jobs;
+        String nextCursor = null;
+        if (hasNext) {
+            Job lastJob = pageJobs.get(pageJobs.size() - 1);
+            nextCursor = KeysetCursor.encode(lastJob.getCreatedAt(), lastJob.getId());
+        }
+        
+        List<JobSummaryResponse> content = mapToSummaries(pageJobs);
+        
+        return PageResponse.keyset(content, size, keysetCursor == null, nextCursor);
     }
 
-    public PageResponse<JobResponse> searchJobs(String searchTerm, int page, int size) {
+    public PageResponse<JobSummaryResponse> searchJobs(String searchTerm, int page, int size) {
         logger.debug("Searching jobs with term: {}", searchTerm);
         
+        // Serve from the in-memory index when it is loaded; the regex scan is only a fallback
+        if (jobSearchIndex.isReady() && jobSearchIndex.isSearchable(searchTerm)) {
+            IndexPage result = jobSearchIndex.search(searchTerm, page * size, size);
+            List<JobSummaryResponse> content = mapToSummaries(hydrateJobs(result.getJobIds()));
+            return new PageResponse<>(content, page, size, result.getTotal());
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Job> jobPage = jobRepository.searchJobs(searchTerm, pageable);
         
-        List<JobResponse> content = jobPage.getContent().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<JobSummaryResponse> content = mapToSummaries(jobPage.getContent());
         
         return new PageResponse<>(
             content,
@@ -109,18 +259,18 @@ public class JobService {
         );
     }
 
-    public PageResponse<JobResponse> filterJobs(String title, String location, List<String> skills, 
-                                               Integer experienceRequired, int page, int size) {
-        logger.debug("Filtering jobs - title: {}, location: {}, skills: {}, experience: {}", 
-                    title, location, skills, experienceRequired);
+    public List<SuggestionResponse> suggest(String prefix, SuggestionType type, int limit) {
+        return jobSuggestionIndex.suggest(prefix, type, limit);
+    }
+
+    public PageResponse<JobSummaryResponse> searchJobsByRelevance(String searchTerm, int page, int size) {
+        logger.debug("Searching jobs by relevance with term: {}", searchTerm);
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Job> jobPage = jobRepository.findJobsByFilters(title, location, skills, 
-                                                             experienceRequired, pageable);
+        // Unsorted: the aggregation orders by its own relevance score
+        Pageable pageable = PageRequest.of(page, size);
+        Page<Job> jobPage = jobRepository.searchJobsByRelevance(searchTerm, pageable);
         
-        List<JobResponse> content = jobPage.getContent().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<JobSummaryResponse> content = mapToSummaries(jobPage.getContent());
         
         return new PageResponse<>(
             content,
@@ -130,15 +280,127 @@ public class JobService {
         );
     }
 
-    public PageResponse<JobResponse> getJobsByRecruiter(String recruiterId, int page, int size) {
+    public PageResponse<JobSummaryResponse> filterJobs(String title, String location, List<String> skills, 
+                                               SkillMatch skillMatch, Integer experienceRequired, 
+                                               int page, int size, PageResponse.TotalType totalType) {
+        logger.debug("Filtering jobs - title: {}, location: {}, skills: {} ({}), experience: {}, total: {}", 
+                    title, location, skills, skillMatch, experienceRequired, totalType);
+        
+        List<Integer> skillIds = resolveSkillIds(skills);
+        
+        // Skills-only filters are answered by bitmap operations on the in-memory index
+        if (skillIds != null && isBlank(title) && isBlank(location) && experienceRequired == null 
+                && skillBitsetIndex.isReady()) {
+            IndexPage result = skillBitsetIndex.match(skillIds, skillMatch, page * size, size);
+            return new PageResponse<>(mapToSummaries(hydrateJobs(result.getJobIds())), 
+                                      page, size, result.getTotal());
+        }
+        
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        
+        if (totalType == PageResponse.TotalType.EXACT) {
+            Page<Job> jobPage = jobRepository.findJobsByFilters(title, location, skillIds, skillMatch, 
+                                                                 experienceRequired, pageable);
+            return new PageResponse<>(
+                mapToSummaries(jobPage.getContent()),
+                jobPage.getNumber(),
+                jobPage.getSize(),
+                jobPage.getTotalElements()
+            );
+        }
+        
+        Slice<Job> jobSlice = jobRepository.findJobsByFiltersSlice(title, location, skillIds, skillMatch, 
+                                                                   experienceRequired, pageable);
+        List<JobSummaryResponse> content = mapToSummaries(jobSlice.getContent());
+        
+        if (totalType == PageResponse.TotalType.OMITTED) {
+            return PageResponse.slice(content, page, size, jobSlice.hasNext());
+        }
+        
+        // ESTIMATED: reuse a recent total for this filter, counting only on a miss
+        String key = FilterCountCache.key(title, location, skillIds, skillMatch, experienceRequired);
+        Long cachedTotal = filterCountCache.get(key);
+        if (cachedTotal != null) {
+            PageResponse<JobSummaryResponse> response = new PageResponse<>(content, page, size, cachedTotal);
+            response.setLast(!jobSlice.hasNext());
+            response.setTotalType(PageResponse.TotalType.ESTIMATED);
+            return response;
+        }
+        
+        long generation = filterCountCache.currentGeneration();
+        long total = jobRepository.countJobsByFilters(title, location, skillIds, skillMatch, experienceRequired);
+        filterCountCache.put(key, total, generation);
+        return new PageResponse<>(content, page, size, total);
+    }
+
+    public PageResponse<JobSummaryResponse> filterJobsNear(String title, String location, Double latitude, 
+                                                   Double longitude, double radiusKm, List<String> skills, 
+                                                   SkillMatch skillMatch, Integer experienceRequired, 
+                                                   int page, int size) {
+        logger.debug("Filtering jobs within {} km of {} ({}, {})", radiusKm, location, latitude, longitude);
+        
+        if (radiusKm <= 0) {
+            throw new IllegalArgumentException("radiusKm must be positive");
+        }
+        
+        // Explicit coordinates win; otherwise the location names the centre city
+        GeoJsonPoint center;
+        if (latitude != null && longitude != null) {
+            center = new GeoJsonPoint(longitude, latitude);
+        } else {
+            center = cityGazetteer.locate(location)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown location for radius search: " + location));
+        }
+        
+        Pageable pageable = PageRequest.of(page, size);
+        Page<Job> jobPage = jobRepository.findJobsNear(title, resolveSkillIds(skills), skillMatch, 
+                                                       experienceRequired, center, radiusKm, pageable);
+        
+        return new PageResponse<>(
+            mapToSummaries(jobPage.getContent()),
+            jobPage.getNumber(),
+            jobPage.getSize(),
+            jobPage.getTotalElements()
+        );
+    }
+
+    public JobFacetsResponse filterJobsWithFacets(String title, String location, List<String> skills, 
+                                                  SkillMatch skillMatch, Integer experienceRequired, 
+                                                  int page, int size) {
+        logger.debug("Filtering jobs with facets - title: {}, location: {}, skills: {} ({}), experience: {}", 
+                    title, location, skills, skillMatch, experienceRequired);
+        
+        List<Integer> skillIds = resolveSkillIds(skills);
+        String key = FilterCountCache.key(title, location, skillIds, skillMatch, experienceRequired) 
+            + "|p=" + page + "|n=" + size;
+        JobFacetsResponse cached = jobFacetCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        
+        long generation = jobFacetCache.currentGeneration();
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        JobFacets facets = jobRepository.findJobFacets(title, location, skillIds, skillMatch, 
+                                                       experienceRequired, pageable);
+        
+        JobFacetsResponse response = new JobFacetsResponse();
+        response.setJobs(new PageResponse<>(mapToSummaries(facets.getJobs()), page, size, facets.getTotal()));
+        response.setLocations(facets.getLocations());
+        response.setSkills(facets.getSkills());
+        response.setEmploymentTypes(facets.getEmploymentTypes());
+        response.setExperience(facets.getExperience());
+        
+        jobFacetCache.put(key, response, generation);
+        return response;
+    }
+
+    public PageResponse<JobSummaryResponse> getJobsByRecruiter(String recruiterId, int page, int size) {
         logger.debug("Fetching jobs by recruiter: {}", recruiterId);
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Job> jobPage = jobRepository.findByPostedBy_IdAndIsActiveTrue(recruiterId, pageable);
+        Page<Job> jobPage = jobRepository.findByPostedByIdAndIsActiveTrue(recruiterId, pageable);
         
-        List<JobResponse> content = jobPage.getContent().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<JobSummaryResponse> content = mapToSummaries(jobPage.getContent());
         
         return new PageResponse<>(
             content,
@@ -158,14 +420,17 @@ public class JobService {
         User user = userService.getUserEntity(userId);
         
         // Verify user is the owner or admin
-        if (!job.getPostedBy().getId().equals(userId) && user.getRole() != com.jobportal.model.enums.Role.ADMIN) {
+        if (!userId.equals(getRecruiterId(job)) && user.getRole() != com.jobportal.model.enums.Role.ADMIN) {
             throw new UnauthorizedException("You don't have permission to update this job");
         }
         
+        boolean retitled = !request.getTitle().equals(job.getTitle());
         job.setTitle(request.getTitle());
         job.setDescription(request.getDescription());
         job.setLocation(request.getLocation());
+        job.setGeoLocation(cityGazetteer.locate(request.getLocation()).orElse(null));
         job.setSkills(request.getSkills());
+        job.setSkillIds(skillDictionary.internAll(request.getSkills()));
         job.setExperienceRequired(request.getExperienceRequired());
         job.setSalaryMin(request.getSalaryMin());
         job.setSalaryMax(request.getSalaryMax());
@@ -173,6 +438,10 @@ public class JobService {
         job.setUpdatedAt(java.time.LocalDateTime.now());
         
         job = jobRepository.save(job);
+        onJobSaved(job);
+        if (retitled) {
+            eventPublisher.publishEvent(new JobRetitledEvent(job.getId(), job.getTitle()));
+        }
         logger.info("Job updated successfully: {}", id);
         
         return mapToResponse(job);
@@ -188,7 +457,7 @@ public class JobService {
         User user = userService.getUserEntity(userId);
         
         // Verify user is the owner or admin
-        if (!job.getPostedBy().getId().equals(userId) && user.getRole() != com.jobportal.model.enums.Role.ADMIN) {
+        if (!userId.equals(getRecruiterId(job)) && user.getRole() != com.jobportal.model.enums.Role.ADMIN) {
             throw new UnauthorizedException("You don't have permission to delete this job");
         }
         
@@ -196,14 +465,240 @@ public class JobService {
         job.setIsActive(false);
         job.setUpdatedAt(java.time.LocalDateTime.now());
         jobRepository.save(job);
+        onJobRemoved(job);
         logger.info("Job deleted successfully: {}", id);
     }
 
+    /**
+     * The fields needed to accept an application, served from a short-lived
+     * cache. Fails if the job does not exist or is no longer active.
+     */
+    public Job getApplicableJob(String id) {
+        Job job = activeJobCache.get(id);
+        if (job == null) {
+            long generation = activeJobCache.currentGeneration();
+            job = jobRepository.findApplyFieldsById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
+            activeJobCache.put(id, job, generation);
+        }
+        if (!Boolean.TRUE.equals(job.getIsActive())) {
+            throw new IllegalArgumentException("Cannot apply to inactive job");
+        }
+        return job;
+    }
+
+    /**
+     * Id of the recruiter who posted the job, read with a projection.
+     */
+    public String getRecruiterId(String jobId) {
+        Job job = jobRepository.findApplyFieldsById(jobId)
+            .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
+        return getRecruiterId(job);
+    }
+
     public Job getJobEntity(String id) {
         return jobRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
     }
 
+    /**
+     * Id of the recruiter who posted the job, read from the denormalized field.
+     * Only jobs not yet backfilled fall back to resolving the lazy reference.
+     */
+    public String getRecruiterId(Job job) {
+        return job.getPostedById() != null ? job.getPostedById() : job.getPostedBy().getId();
+    }
+
+    /**
+     * Copies the recruiter id and name onto jobs saved before they were denormalized.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRecruiterFields() {
+        List<String> recruiterIds = jobRepository.findRecruiterIdsMissingPostedBy();
+        if (recruiterIds.isEmpty()) {
+            return;
+        }
+        logger.info("Backfilling recruiter fields for jobs of {} recruiters", recruiterIds.size());
+        long updated = 0;
+        for (String recruiterId : recruiterIds) {
+            try {
+                User recruiter = userService.getUserEntity(recruiterId);
+                updated += jobRepository.backfillPostedBy(recruiterId, 
+                    recruiter.getFirstName() + " " + recruiter.getLastName());
+            } catch (ResourceNotFoundException ex) {
+                logger.warn("Skipping recruiter field backfill for missing user: {}", recruiterId);
+            }
+        }
+        if (updated > 0) {
+            invalidateCaches();
+        }
+        logger.info("Recruiter fields backfilled on {} jobs", updated);
+    }
+
+    /**
+     * Interns the skills of jobs saved before the skill dictionary existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSkillIds() {
+        long updated = jobRepository.backfillSkillIds(skillDictionary::internAll);
+        if (updated > 0) {
+            logger.info("Skill ids backfilled on {} jobs", updated);
+            skillBitsetIndex.rebuild();
+            invalidateCaches();
+        }
+    }
+
+    @EventListener
+    public void onUserRenamed(UserRenamedEvent event) {
+        long updated = jobRepository.updatePostedByName(event.getUserId(), event.getDisplayName());
+        if (updated > 0) {
+            logger.info("Updated recruiter name on {} jobs of user: {}", updated, event.getUserId());
+            invalidateCaches();
+        }
+    }
+
+    @Override
+    public Set<String> collections() {
+        return Set.of("jobs");
+    }
+
+    /**
+     * Applies job changes read from the change stream, including ones made outside
+     * this service. Writes this service already applied are skipped, and the
+     * caches are only invalidated when a batch changed something.
+     */
+    @Override
+    public void onChanges(List<CollectionChangeEvent> changes) {
+        boolean changed = false;
+        for (CollectionChangeEvent change : changes) {
+            if (change.getFullDocument() == null) {
+                appliedWrites.remove(change.getDocumentId());
+                unindexJob(change.getDocumentId());
+                changed = true;
+                continue;
+            }
+            Job job = mongoConverter.read(Job.class, change.getFullDocument());
+            if (isAlreadyApplied(job)) {
+                continue;
+            }
+            indexJob(job);
+            changed = true;
+            if (change.getOperation() != CollectionChangeEvent.Operation.INSERT && change.touches("title")) {
+                eventPublisher.publishEvent(new JobRetitledEvent(job.getId(), job.getTitle()));
+            }
+        }
+        if (changed) {
+            invalidateCaches();
+        }
+    }
+
+    @Override
+    public void onResync() {
+        jobSearchIndex.rebuild();
+        jobSuggestionIndex.rebuild();
+        skillBitsetIndex.rebuild();
+        backfillRecruiterFields();
+        invalidateCaches();
+    }
+
+    private boolean isKeysetSort(String sortBy, String sortDir) {
+        return sortBy.equals("createdAt") && sortDir.equalsIgnoreCase("desc");
+    }
+
+    /**
+     * Brings the in-memory indexes up to date with a saved job and invalidates
+     * every cached listing built from the previous catalog.
+     */
+    private void onJobSaved(Job job) {
+        recordApplied(job);
+        indexJob(job);
+        invalidateCaches();
+    }
+
+    private void onJobRemoved(Job job) {
+        recordApplied(job);
+        unindexJob(job.getId());
+        invalidateCaches();
+    }
+
+    private void recordApplied(Job job) {
+        if (job.getUpdatedAt() == null) {
+            return;
+        }
+        // Only change events drain this; dropping it merely costs a redundant re-apply
+        if (appliedWrites.size() >= MAX_APPLIED_WRITES) {
+            appliedWrites.clear();
+        }
+        // Stored dates keep millisecond precision, so compare at that precision
+        appliedWrites.put(job.getId(), job.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    /**
+     * True for the change event of a write this service already indexed. The entry
+     * is consumed either way, so a later external edit is always applied.
+     */
+    private boolean isAlreadyApplied(Job job) {
+        LocalDateTime applied = appliedWrites.remove(job.getId());
+        return applied != null && applied.equals(job.getUpdatedAt());
+    }
+
+    private void indexJob(Job job) {
+        jobSearchIndex.index(job);
+        jobSuggestionIndex.index(job);
+        skillBitsetIndex.index(job);
+    }
+
+    private void unindexJob(String jobId) {
+        jobSearchIndex.remove(jobId);
+        jobSuggestionIndex.remove(jobId);
+        skillBitsetIndex.remove(jobId);
+    }
+
+    private void invalidateCaches() {
+        jobCatalogVersion.bump();
+        filterCountCache.invalidateAll();
+        jobFacetCache.invalidateAll();
+        activeJobCache.invalidateAll();
+    }
+
+    private List<Integer> resolveSkillIds(List<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return null;
+        }
+        List<Integer> skillIds = skillDictionary.lookupIds(skills);
+        return skillIds.isEmpty() ? null : skillIds;
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private List<JobSummaryResponse> mapToSummaries(List<Job> jobs) {
+        // Jobs not yet carrying the recruiter fields get their recruiters in one batch
+        referenceResolver.resolve(
+            jobs.stream().filter(job -> job.getPostedById() == null).collect(Collectors.toList()),
+            Job::getPostedBy, Job::setPostedBy, User.class);
+        return jobs.stream()
+            .map(this::mapToSummary)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads the given job ids in one query and returns them in the same order,
+     * skipping any that were removed or deactivated since the index was read.
+     */
+    private List<Job> hydrateJobs(List<String> jobIds) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Job> jobsById = jobRepository.findSummariesByIds(jobIds).stream()
+            .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return jobIds.stream()
+            .map(jobsById::get)
+            .filter(job -> job != null && Boolean.TRUE.equals(job.getIsActive()))
+            .collect(Collectors.toList());
+    }
+
     private JobResponse mapToResponse(Job job) {
         JobResponse response = new JobResponse();
         response.setId(job.getId());
@@ -215,12 +710,37 @@ public class JobService {
         response.setSalaryMin(job.getSalaryMin());
         response.setSalaryMax(job.getSalaryMax());
         response.setEmploymentType(job.getEmploymentType());
-        response.setPostedBy(job.getPostedBy().getId());
-        response.setPostedByName(job.getPostedBy().getFirstName() + " " + job.getPostedBy().getLastName());
+        response.setPostedBy(getRecruiterId(job));
+        response.setPostedByName(getRecruiterName(job));
         response.setIsActive(job.getIsActive());
         response.setCreatedAt(job.getCreatedAt());
         response.setUpdatedAt(job.getUpdatedAt());
         return response;
     }
+
+    private JobSummaryResponse mapToSummary(Job job) {
+        JobSummaryResponse summary = new JobSummaryResponse();
+        summary.setId(job.getId());
+        summary.setTitle(job.getTitle());
+        summary.setLocation(job.getLocation());
+        summary.setSkills(job.getSkills());
+        summary.setExperienceRequired(job.getExperienceRequired());
+        summary.setSalaryMin(job.getSalaryMin());
+        summary.setSalaryMax(job.getSalaryMax());
+        summary.setEmploymentType(job.getEmploymentType());
+        summary.setPostedBy(getRecruiterId(job));
+        summary.setPostedByName(getRecruiterName(job));
+        summary.setCreatedAt(job.getCreatedAt());
+        return summary;
+    }
+
+    private String getRecruiterName(Job job) {
+        if (job.getPostedById() != null) {
+            return job.getPostedByName();
+        }
+        // Not backfilled yet; resolving the lazy reference costs one user lookup
+        User recruiter = job.getPostedBy();
+        return recruiter.getFirstName() + " " + recruiter.getLastName();
+    }
 }
 
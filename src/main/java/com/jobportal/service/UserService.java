@@ -1,13 +1,22 @@
 package com.jobportal.service;
 
+import com.jobportal.dto.request.UserNameUpdateRequest;
 import com.jobportal.dto.response.PageResponse;
 import com.jobportal.dto.response.UserResponse;
+import com.jobportal.event.CollectionChangeEvent;
+import com.jobportal.event.CollectionChangeListener;
+import com.jobportal.event.UserDeactivatedEvent;
+import com.jobportal.event.UserRenamedEvent;
 import com.jobportal.exception.ResourceNotFoundException;
 import com.jobportal.model.User;
 import com.jobportal.model.enums.Role;
+import com.jobportal.repository.KeysetCursor;
 import com.jobportal.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,17 +25,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
-public class UserService {
+public class UserService implements CollectionChangeListener {
     
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
     
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public UserResponse getUserById(String id) {
@@ -50,6 +62,11 @@ public class UserService {
             ? Sort.by(sortBy).descending() 
             : Sort.by(sortBy).ascending();
         
+        boolean keysetSort = isKeysetSort(sortBy, sortDir);
+        if (keysetSort) {
+            sort = sort.and(Sort.by("id").descending());
+        }
+        
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<User> userPage = userRepository.findAll(pageable);
         
@@ -57,12 +74,43 @@ public class UserService {
             .map(this::mapToResponse)
             .collect(Collectors.toList());
         
-        return new PageResponse<>(
+        PageResponse<UserResponse> response = new PageResponse<>(
             content,
             userPage.getNumber(),
             userPage.getSize(),
             userPage.getTotalElements()
         );
+        
+        if (keysetSort && userPage.hasNext()) {
+            User lastUser = userPage.getContent().get(userPage.getNumberOfElements() - 1);
+            response.setNextCursor(KeysetCursor.encode(lastUser.getCreatedAt(), lastUser.getId()));
+        }
+        return response;
+    }
+
+    public PageResponse<UserResponse> getUsersAfter(String cursor, int size, String sortBy, String sortDir) {
+        logger.debug("Fetching users after cursor - size: {}", size);
+        
+        if (!isKeysetSort(sortBy, sortDir)) {
+            throw new IllegalArgumentException("Cursor pagination is only supported for createdAt desc");
+        }
+        
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        List<User> users = userRepository.findAllAfter(keysetCursor, size + 1);
+        
+        boolean hasNext = users.size() > size;
+        List<User> pageUsers = hasNext ? users.subList(0, size) : users;
+        String nextCursor = null;
+        if (hasNext) {
+            User lastUser = pageUsers.get(pageUsers.size() - 1);
+            nextCursor = KeysetCursor.encode(lastUser.getCreatedAt(), lastUser.getId());
+        }
+        
+        List<UserResponse> content = pageUsers.stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+        
+        return PageResponse.keyset(content, size, keysetCursor == null, nextCursor);
     }
 
     public PageResponse<UserResponse> getUsersByRole(Role role, int page, int size) {
@@ -88,6 +136,7 @@ public class UserService {
         user.setIsActive(false);
         user.setUpdatedAt(java.time.LocalDateTime.now());
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserDeactivatedEvent(id));
         logger.info("User deactivated successfully: {}", id);
     }
 
@@ -102,11 +151,36 @@ public class UserService {
         logger.info("User activated successfully: {}", id);
     }
 
+    @Transactional
+    public UserResponse updateName(String id, UserNameUpdateRequest request) {
+        logger.info("Updating name of user: {}", id);
+        User user = userRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        
+        boolean renamed = !request.getFirstName().equals(user.getFirstName())
+            || !request.getLastName().equals(user.getLastName());
+        user.setFirstName(request.getFirstName());
+        user.setLastName(request.getLastName());
+        user.setUpdatedAt(java.time.LocalDateTime.now());
+        User savedUser = userRepository.save(user);
+        
+        // Denormalized copies of the display name are refreshed by listeners
+        if (renamed) {
+            eventPublisher.publishEvent(new UserRenamedEvent(id, savedUser.getFirstName(), savedUser.getLastName()));
+        }
+        logger.info("User name updated successfully: {}", id);
+        return mapToResponse(savedUser);
+    }
+
     public User getUserEntity(String id) {
         return userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
     }
 
+    private boolean isKeysetSort(String sortBy, String sortDir) {
+        return sortBy.equals("createdAt") && sortDir.equalsIgnoreCase("desc");
+    }
+
     private UserResponse mapToResponse(User user) {
         UserResponse response = new UserResponse();
         response.setId(user.getId());
@@ -119,5 +193,43 @@ public class UserService {
         response.setCreatedAt(user.getCreatedAt());
         return response;
     }
-}
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void dropLegacyUniqueIndexes() {
+        try {
+            List<String> dropped = userRepository.dropLegacyUniqueIndexes();
+            if (!dropped.isEmpty()) {
+                logger.info("Dropped case-sensitive user indexes: {}", dropped);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Could not drop case-sensitive user indexes", ex);
+        }
+    }
+
+    @Override
+    public Set<String> collections() {
+        return Set.of("users");
+    }
+
+    /**
+     * Turns name edits read from the change stream, including ones made outside
+     * {@link #updateName}, into rename events so every name snapshot follows,
+     * and deactivations or deletes into deactivation events.
+     */
+    @Override
+    public void onChanges(List<CollectionChangeEvent> changes) {
+        for (CollectionChangeEvent change : changes) {
+            if (change.getOperation() == CollectionChangeEvent.Operation.DELETE 
+                    || (change.getFullDocument() != null && change.touches("isActive")
+                        && Boolean.FALSE.equals(change.getFullDocument().getBoolean("isActive")))) {
+                eventPublisher.publishEvent(new UserDeactivatedEvent(change.getDocumentId()));
+            }
+            if (change.getOperation() == CollectionChangeEvent.Operation.INSERT 
+                    || change.getFullDocument() == null || !change.touches("firstName", "lastName")) {
+                continue;
+            }
+            eventPublisher.publishEvent(new UserRenamedEvent(change.getDocumentId(), 
+                change.getFullDocument().getString("firstName"), change.getFullDocument().getString("lastName")));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.jobportal.storage;
+
+import com.mongodb.client.gridfs.GridFSBucket;
+import org.bson.types.ObjectId;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+/**
+ * A resume stored in GridFS, or still inline on an application that has not
+ * been migrated yet.
+ *
+ * Every {@link #getInputStream()} opens a fresh download stream, so Spring MVC
+ * can serve byte ranges from it; skipping on a GridFS stream jumps whole chunks
+ * instead of reading them.
+ */
+public class ResumeResource extends AbstractResource {
+
+    private final Supplier<InputStream> opener;
+    private final String description;
+    private final String filename;
+    private final String contentType;
+    private final long length;
+
+    ResumeResource(GridFSBucket bucket, ObjectId fileId, String filename, String contentType, long length) {
+        this(() -> bucket.openDownloadStream(fileId), "GridFS resume [" + fileId.toHexString() + "]",
+             filename, contentType, length);
+    }
+
+    ResumeResource(byte[] content, String filename, String contentType) {
+        this(() -> new ByteArrayInputStream(content), "Inline resume", filename, contentType, content.length);
+    }
+
+    private ResumeResource(Supplier<InputStream> opener, String description, String filename, 
+                           String contentType, long length) {
+        this.opener = opener;
+        this.description = description;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.length = length;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return opener.get();
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,130 @@
+package com.jobportal.storage;
+
+import com.jobportal.model.Application;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSBuckets;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import com.mongodb.client.model.Filters;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Chunked GridFS storage for application resumes.
+ *
+ * Design Decisions:
+ * - Resumes live in their own bucket and applications only keep the file id,
+ *   so the applications working set stays small
+ * - Files carry their content type and owning candidate as metadata
+ * - On startup, resumes still stored inline on older applications are moved
+ *   into the bucket one document at a time
+ */
+@Component
+public class ResumeStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeStorage.class);
+
+    private static final String TEXT_CONTENT_TYPE = "text/plain;charset=UTF-8";
+
+    private final GridFSBucket bucket;
+    private final MongoTemplate mongoTemplate;
+    private final int chunkSizeBytes;
+
+    public ResumeStorage(MongoDatabaseFactory mongoDatabaseFactory, MongoTemplate mongoTemplate,
+                         @Value("${jobportal.resumes.bucket:resumes}") String bucketName,
+                         @Value("${jobportal.resumes.chunk-size-bytes:261120}") int chunkSizeBytes) {
+        this.bucket = GridFSBuckets.create(mongoDatabaseFactory.getMongoDatabase(), bucketName);
+        this.mongoTemplate = mongoTemplate;
+        this.chunkSizeBytes = chunkSizeBytes;
+    }
+
+    /**
+     * Stores a pasted plain-text resume and returns its file id.
+     */
+    public String storeText(String candidateId, String resume) {
+        byte[] content = resume.getBytes(StandardCharsets.UTF_8);
+        GridFSUploadOptions options = new GridFSUploadOptions()
+            .chunkSizeBytes(chunkSizeBytes)
+            .metadata(new Document("contentType", TEXT_CONTENT_TYPE).append("candidateId", candidateId));
+        ObjectId fileId = bucket.uploadFromStream(textFilename(candidateId), new ByteArrayInputStream(content), options);
+        return fileId.toHexString();
+    }
+
+    /**
+     * Serves a resume still stored inline on an application that the startup
+     * migration has not reached yet.
+     */
+    public ResumeResource inline(String candidateId, String resume) {
+        return new ResumeResource(resume.getBytes(StandardCharsets.UTF_8), textFilename(candidateId), TEXT_CONTENT_TYPE);
+    }
+
+    public void delete(String fileId) {
+        if (fileId != null && ObjectId.isValid(fileId)) {
+            bucket.delete(new ObjectId(fileId));
+        }
+    }
+
+    public Optional<ResumeResource> open(String fileId) {
+        if (fileId == null || !ObjectId.isValid(fileId)) {
+            return Optional.empty();
+        }
+        ObjectId id = new ObjectId(fileId);
+        GridFSFile file = bucket.find(Filters.eq("_id", id)).first();
+        if (file == null) {
+            return Optional.empty();
+        }
+        Document metadata = file.getMetadata();
+        String contentType = metadata != null && metadata.getString("contentType") != null
+            ? metadata.getString("contentType")
+            : TEXT_CONTENT_TYPE;
+        return Optional.of(new ResumeResource(bucket, id, file.getFilename(), contentType, file.getLength()));
+    }
+
+    private static String textFilename(String candidateId) {
+        return candidateId != null ? "resume-" + candidateId + ".txt" : "resume.txt";
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateInlineResumes() {
+        Query query = new Query(Criteria.where("resume").exists(true).and("resumeFileId").exists(false));
+        query.fields().include("resume", "candidateId");
+
+        long migrated = 0;
+        try (Stream<Application> applications = mongoTemplate.stream(query, Application.class)) {
+            for (Application application : (Iterable<Application>) applications::iterator) {
+                String fileId = storeText(application.getCandidateId(),
+                                          application.getResume() != null ? application.getResume() : "");
+                // Guarded on the field still being absent so a concurrent writer wins
+                Query unmigrated = new Query(Criteria.where("id").is(application.getId())
+                    .and("resumeFileId").exists(false));
+                Update update = new Update().set("resumeFileId", fileId).unset("resume");
+                if (mongoTemplate.updateFirst(unmigrated, update, Application.class).getModifiedCount() == 1) {
+                    migrated++;
+                } else {
+                    bucket.delete(new ObjectId(fileId));
+                }
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Failed to move inline resumes into GridFS", ex);
+        }
+        if (migrated > 0) {
+            logger.info("Moved {} inline resumes into GridFS", migrated);
+        }
+    }
+}
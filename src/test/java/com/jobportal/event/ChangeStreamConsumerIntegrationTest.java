@@ -0,0 +1,154 @@
+package com.jobportal.event;
+
+import com.jobportal.model.ChangeStreamCheckpoint;
+import com.jobportal.repository.ChangeStreamCheckpointRepository;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs the consumer against a single-node replica set (the Testcontainers
+ * MongoDB image starts one), since change streams are unavailable on a
+ * standalone server. Skipped when Docker is not available.
+ */
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+class ChangeStreamConsumerIntegrationTest {
+
+    private static final String COLLECTION = "change_stream_it";
+    private static final String CONSUMER_NAME = "read-model";
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ChangeStreamCheckpointRepository checkpointRepository;
+
+    private final List<ChangeStreamConsumer> consumers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        checkpointRepository.deleteAll();
+        mongoTemplate.dropCollection(COLLECTION);
+        mongoTemplate.createCollection(COLLECTION);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumers.forEach(ChangeStreamConsumer::stop);
+    }
+
+    @Test
+    void resumesFromCheckpointWithoutReplayingDispatchedChanges() {
+        RecordingListener first = new RecordingListener();
+        ChangeStreamConsumer consumer = start(first);
+        String dispatched = insert("dispatched");
+        await().atMost(TIMEOUT).until(() -> first.documentIds().contains(dispatched));
+        consumer.stop();
+        assertThat(checkpointRepository.findById(CONSUMER_NAME)).isPresent();
+
+        // Written while no consumer is running; only the checkpoint can bring it back
+        String missed = insert("missed");
+
+        RecordingListener second = new RecordingListener();
+        start(second);
+        await().atMost(TIMEOUT).until(() -> second.documentIds().contains(missed));
+        assertThat(second.documentIds()).doesNotContain(dispatched);
+        assertThat(second.resyncs.get()).isZero();
+    }
+
+    @Test
+    void resyncsAndStartsOverWhenTheCheckpointHasFallenOffTheOplog() {
+        checkpointRepository.save(new ChangeStreamCheckpoint(CONSUMER_NAME, expiredResumeToken().toJson()));
+
+        RecordingListener listener = new RecordingListener();
+        start(listener);
+        await().atMost(TIMEOUT).until(() -> listener.resyncs.get() == 1);
+
+        String inserted = insert("after-resync");
+        await().atMost(TIMEOUT).until(() -> listener.documentIds().contains(inserted));
+        assertThat(checkpointRepository.findById(CONSUMER_NAME))
+            .map(ChangeStreamCheckpoint::getResumeToken)
+            .isPresent()
+            .get()
+            .isNotEqualTo(expiredResumeToken().toJson());
+    }
+
+    private ChangeStreamConsumer start(CollectionChangeListener listener) {
+        ChangeStreamConsumer consumer = new ChangeStreamConsumer(mongoTemplate, checkpointRepository,
+                                                                 List.of(listener), true, 50, 100, 200);
+        consumers.add(consumer);
+        consumer.start();
+        return consumer;
+    }
+
+    private String insert(String name) {
+        return mongoTemplate.insert(new Document("name", name), COLLECTION).getObjectId("_id").toHexString();
+    }
+
+    /**
+     * A real resume token with its leading cluster time rewritten to (1, 1),
+     * which predates the oldest oplog entry, so resuming fails with
+     * ChangeStreamHistoryLost.
+     */
+    private BsonDocument expiredResumeToken() {
+        String data;
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = mongoTemplate.getDb().watch().cursor()) {
+            cursor.tryNext();
+            data = cursor.getResumeToken().getString("_data").getValue();
+        }
+        // _data starts with the timestamp type byte (0x82) and the 8-byte cluster time
+        return new BsonDocument("_data", new BsonString(data.substring(0, 2) + "0000000100000001" + data.substring(18)));
+    }
+
+    private static final class RecordingListener implements CollectionChangeListener {
+        private final List<CollectionChangeEvent> changes = new CopyOnWriteArrayList<>();
+        private final AtomicInteger resyncs = new AtomicInteger();
+
+        @Override
+        public Set<String> collections() {
+            return Set.of(COLLECTION);
+        }
+
+        @Override
+        public void onChanges(List<CollectionChangeEvent> batch) {
+            changes.addAll(batch);
+        }
+
+        @Override
+        public void onResync() {
+            resyncs.incrementAndGet();
+        }
+
+        List<String> documentIds() {
+            return changes.stream().map(CollectionChangeEvent::getDocumentId).toList();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.jobportal.repository;
+
+import com.jobportal.model.Job;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Keyword search over a large jobs collection: the unanchored case-insensitive
+ * regex of JobRepository.searchJobs against the weighted text index behind
+ * searchJobsByRelevance. Both run their count query, as the endpoints do.
+ * Not a unit test; it needs Docker and is run by hand after test-compile:
+ *
+ *   mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -Djobs=1000000 -cp target/test-classes:target/classes:$(cat target/cp.txt) com.jobportal.repository.JobSearchBenchmark
+ *
+ * Loading and indexing a million jobs takes a few minutes. Each case is warmed
+ * up for five seconds, then timed for ten.
+ */
+public final class JobSearchBenchmark {
+
+    private static final long WARMUP_NS = 5_000_000_000L;
+    private static final long MEASURE_NS = 10_000_000_000L;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    private static final String[] LEVELS = {"Junior", "Senior", "Lead", "Principal", "Staff"};
+    private static final String[] ROLES = {"Backend Engineer", "Frontend Developer", "Data Scientist",
+        "DevOps Engineer", "Mobile Developer", "QA Analyst", "Product Manager", "Site Reliability Engineer"};
+    private static final String[] SKILLS = {"Java", "Spring", "Python", "Django", "Kubernetes", "Docker",
+        "React", "TypeScript", "Go", "Rust", "PostgreSQL", "MongoDB", "Kafka", "AWS", "Terraform", "Swift"};
+    private static final String[] CITIES = {"London", "Berlin", "Amsterdam", "Lisbon", "Warsaw", "Dublin",
+        "Paris", "Madrid", "Stockholm", "Remote"};
+    private static final String[] FILLER = {"team", "product", "customers", "scale", "platform", "growth",
+        "ownership", "delivery", "quality", "mentoring", "roadmap", "services"};
+    private static final String[] TERMS = {"kubernetes", "senior python", "principal site reliability"};
+
+    private static volatile Object sink;
+
+    private JobSearchBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int jobs = Integer.getInteger("jobs", 1_000_000);
+        try (MongoDBContainer mongo = new MongoDBContainer("mongo:7.0")) {
+            mongo.start();
+            try (MongoClient client = MongoClients.create(mongo.getConnectionString())) {
+                MongoTemplate mongoTemplate = new MongoTemplate(client, "benchmark");
+                MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+
+                // Indexes are built after the load, as they would be on an existing collection
+                long start = System.nanoTime();
+                load(mongoTemplate, jobs);
+                IndexOperations indexOps = mongoTemplate.indexOps(Job.class);
+                IndexResolver.create(mappingContext).resolveIndexFor(Job.class).forEach(indexOps::ensureIndex);
+                System.out.printf("Loaded and indexed %,d jobs in %d s%n",
+                                  jobs, (System.nanoTime() - start) / 1_000_000_000L);
+
+                JobRepository repository = new MongoRepositoryFactory(mongoTemplate)
+                    .getRepository(JobRepository.class, RepositoryFragments.just(new JobRepositoryImpl(mongoTemplate)));
+                Pageable newestFirst = PageRequest.of(0, 20, Sort.by("createdAt").descending());
+                Pageable unsorted = PageRequest.of(0, 20);
+                for (String term : TERMS) {
+                    measure("regex '" + term + "'", () -> repository.searchJobs(term, newestFirst));
+                    measure("$text '" + term + "'", () -> repository.searchJobsByRelevance(term, unsorted));
+                }
+            }
+        }
+    }
+
+    private static void load(MongoTemplate mongoTemplate, int jobs) {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Job.class));
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        List<Document> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < jobs; i++) {
+            List<String> skills = List.of(pick(random, SKILLS), pick(random, SKILLS), pick(random, SKILLS));
+            StringBuilder description = new StringBuilder("We are looking for someone who knows ")
+                .append(String.join(", ", skills)).append('.');
+            for (int w = 0; w < 30; w++) {
+                description.append(' ').append(pick(random, FILLER));
+            }
+            batch.add(new Document("title", pick(random, LEVELS) + " " + pick(random, ROLES))
+                .append("description", description.toString())
+                .append("location", pick(random, CITIES))
+                .append("skills", skills)
+                .append("experienceRequired", random.nextInt(15))
+                .append("isActive", random.nextInt(10) != 0)
+                .append("createdAt", new Date(now - random.nextInt(365) * 86_400_000L - random.nextInt(86_400_000))));
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                collection.insertMany(batch, new InsertManyOptions().ordered(false));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            collection.insertMany(batch, new InsertManyOptions().ordered(false));
+        }
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static void measure(String name, Supplier<Object> operation) {
+        run(operation, WARMUP_NS);
+        long start = System.nanoTime();
+        long operations = run(operation, MEASURE_NS);
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / operations;
+        System.out.printf("%-40s %10.2f ms/op%n", name, millis);
+    }
+
+    private static long run(Supplier<Object> operation, long durationNs) {
+        long deadline = System.nanoTime() + durationNs;
+        long operations = 0;
+        do {
+            sink = operation.get();
+            operations++;
+        } while (System.nanoTime() < deadline);
+        return operations;
+    }
+}
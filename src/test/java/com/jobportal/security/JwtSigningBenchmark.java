@@ -0,0 +1,84 @@
+package com.jobportal.security;
+
+import com.jobportal.model.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing and verification cost per JWT algorithm: login pays for a signature,
+ * a verified-token cache miss for a verification. Run like
+ * {@link JwtVerificationBenchmark}, selecting JwtSigningBenchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JwtSigningBenchmark {
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    private String algorithm;
+
+    private Key signingKey;
+    private JwtParser parser;
+    private String signed;
+
+    @Setup
+    public void setUp() {
+        switch (algorithm) {
+            case "HS256" -> {
+                SecretKey key = Keys.hmacShaKeyFor(JwtVerificationBenchmark.SECRET.getBytes(StandardCharsets.UTF_8));
+                signingKey = key;
+                parser = Jwts.parser().verifyWith(key).build();
+            }
+            case "ES256" -> useKeyPair(Jwts.SIG.ES256.keyPair().build());
+            case "EdDSA" -> useKeyPair(Jwts.SIG.EdDSA.keyPair().build());
+            default -> throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+        signed = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        return Jwts.builder()
+            .subject("alice")
+            .claim("userId", "64b7f0c2a1e4b53d2c9f0a11")
+            .claim("role", Role.CANDIDATE.name())
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+            .signWith(signingKey)
+            .compact();
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return parser.parseSignedClaims(signed).getPayload();
+    }
+
+    private void useKeyPair(KeyPair keyPair) {
+        signingKey = keyPair.getPrivate();
+        parser = Jwts.parser().verifyWith((PublicKey) keyPair.getPublic()).build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.jobportal.security;
+
+import com.jobportal.model.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token. Not a unit test; run it
+ * by hand after test-compile:
+ *
+ *   mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main JwtVerificationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    static final String SECRET = "benchmark-hs256-secret-32-bytes!";
+
+    private String token;
+    private String cacheKey;
+    private JwtTokenProvider provider;
+    private VerifiedTokenCache cache;
+    private RevokedUsers revokedUsers;
+
+    @Setup
+    public void setUp() {
+        token = Jwts.builder()
+            .subject("alice")
+            .claim("userId", "64b7f0c2a1e4b53d2c9f0a11")
+            .claim("role", Role.CANDIDATE.name())
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+        provider = new JwtTokenProvider(null, SECRET, 3_600_000, true);
+
+        cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10_000, 300_000);
+        revokedUsers = new RevokedUsers(3_600_000);
+        revokedUsers.revoke("some-other-user", Instant.now());
+        cacheKey = VerifiedTokenCache.key(token);
+        cache.put(cacheKey, provider.verifyToken(token), cache.currentGeneration());
+    }
+
+    /**
+     * Before: the filter and controllers each rebuilt the key and parser and
+     * parsed the token again (validate, username, userId, role).
+     */
+    @Benchmark
+    public void fourParsesWithFreshParser(Blackhole blackhole) {
+        for (int i = 0; i < 4; i++) {
+            blackhole.consume(parseWithFreshParser(token));
+        }
+    }
+
+    /**
+     * After, on a cache miss: one verification through the shared parser.
+     */
+    @Benchmark
+    public JwtPrincipal verifyTokenWithSharedParser() {
+        return provider.verifyToken(token);
+    }
+
+    /**
+     * After, on a cache hit, as the filter does it: hash the token, look it up,
+     * check revocation.
+     */
+    @Benchmark
+    public boolean cacheHitWithRevocationCheck() {
+        JwtPrincipal principal = cache.get(VerifiedTokenCache.key(token));
+        return revokedUsers.isRevoked(principal);
+    }
+
+    private static Claims parseWithFreshParser(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+}
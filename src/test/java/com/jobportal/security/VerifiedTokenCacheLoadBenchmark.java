@@ -0,0 +1,149 @@
+package com.jobportal.security;
+
+import com.jobportal.model.enums.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The filter's token path under concurrent load: hash the token, look it up in
+ * the striped verified-token cache, verify and insert on a miss, then check
+ * revocation. Not a unit test; run it by hand after test-compile:
+ *
+ *   mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.jobportal.security.VerifiedTokenCacheLoadBenchmark
+ *
+ * Two phases, each warmed up for five seconds and then measured for ten:
+ * - open loop at -Drate requests per second (default 10,000) spread over
+ *   -Dthreads workers (default 16); latency runs from each request's
+ *   scheduled start, so a stall also counts against the requests queued behind it
+ * - closed loop with the same workers as fast as they go, for headroom
+ *
+ * Requests pick uniformly from -Dtokens distinct tokens (default 20,000), twice
+ * the default cache size, so misses, inserts and evictions contend with hits.
+ * JMH measures closed-loop throughput and can't hold a fixed arrival rate,
+ * which is why this harness is hand-rolled.
+ */
+public final class VerifiedTokenCacheLoadBenchmark {
+
+    private static final long WARMUP_NS = 5_000_000_000L;
+    private static final long MEASURE_NS = 10_000_000_000L;
+
+    private final JwtTokenProvider provider;
+    private final VerifiedTokenCache cache;
+    private final RevokedUsers revokedUsers;
+    private final String[] tokens;
+
+    private VerifiedTokenCacheLoadBenchmark(int tokenCount) {
+        provider = new JwtTokenProvider(null, JwtVerificationBenchmark.SECRET, 3_600_000, true);
+        cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10_000, 300_000);
+        revokedUsers = new RevokedUsers(3_600_000);
+        revokedUsers.revoke("some-other-user", Instant.now());
+        tokens = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = Jwts.builder()
+                .subject("user" + i)
+                .claim("userId", String.format("%024x", i))
+                .claim("role", Role.CANDIDATE.name())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(JwtVerificationBenchmark.SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int rate = Integer.getInteger("rate", 10_000);
+        int threads = Integer.getInteger("threads", 16);
+        VerifiedTokenCacheLoadBenchmark benchmark =
+            new VerifiedTokenCacheLoadBenchmark(Integer.getInteger("tokens", 20_000));
+
+        System.out.printf("%d threads, %d tokens, %d available processors%n",
+                          threads, benchmark.tokens.length, Runtime.getRuntime().availableProcessors());
+        benchmark.run(threads, rate, WARMUP_NS);
+        benchmark.report("open loop at " + rate + "/s", benchmark.run(threads, rate, MEASURE_NS), MEASURE_NS);
+        benchmark.run(threads, 0, WARMUP_NS);
+        benchmark.report("closed loop", benchmark.run(threads, 0, MEASURE_NS), MEASURE_NS);
+    }
+
+    /**
+     * Runs the workers for the duration; a rate of 0 means no pacing. Returns the
+     * latency of every request in nanoseconds.
+     */
+    private long[] run(int threads, int rate, long durationNs) throws InterruptedException {
+        long[][] latencies = new long[threads][];
+        Thread[] workers = new Thread[threads];
+        long start = System.nanoTime() + 10_000_000L;
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            workers[t] = new Thread(() -> latencies[worker] = work(worker, threads, rate, start, durationNs));
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return Arrays.stream(latencies).flatMapToLong(Arrays::stream).toArray();
+    }
+
+    private long[] work(int worker, int threads, int rate, long start, long durationNs) {
+        long intervalNs = rate > 0 ? threads * 1_000_000_000L / rate : 0;
+        long next = start + (rate > 0 ? worker * intervalNs / threads : 0);
+        long deadline = start + durationNs;
+        long[] latencies = new long[1 << 16];
+        int count = 0;
+        while (true) {
+            long scheduled = rate > 0 ? next : System.nanoTime();
+            if (scheduled >= deadline) {
+                break;
+            }
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            authenticate(tokens[ThreadLocalRandom.current().nextInt(tokens.length)]);
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - scheduled;
+            next += intervalNs;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    /**
+     * Same steps as JwtAuthenticationFilter.
+     */
+    private boolean authenticate(String token) {
+        String key = VerifiedTokenCache.key(token);
+        JwtPrincipal principal = cache.get(key);
+        if (principal == null) {
+            long generation = cache.currentGeneration();
+            principal = provider.verifyToken(token);
+            cache.put(key, principal, generation);
+        }
+        return revokedUsers.isRevoked(principal);
+    }
+
+    private void report(String name, long[] latencies, long durationNs) {
+        Arrays.sort(latencies);
+        System.out.printf("%-22s %9.0f req/s   p50 %8.1f us   p99 %8.1f us   p99.9 %8.1f us   max %8.1f us%n",
+                          name,
+                          latencies.length / (durationNs / 1_000_000_000.0),
+                          percentile(latencies, 0.50),
+                          percentile(latencies, 0.99),
+                          percentile(latencies, 0.999),
+                          latencies[latencies.length - 1] / 1_000.0);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000.0;
+    }
+}